@@ -6,11 +6,16 @@ import javax.annotation.PostConstruct;
 
 public abstract class AbstractConverter implements DataConverter{
 
-    @Autowired
+    @Autowired(required = false)
     private ConverterFactory converterFactory;
 
+    /**
+     * 容器中存在ConverterFactory Bean时自动注册自身
+     */
     @PostConstruct
-    protected void registerConverter(DataConverter converter) {
-        converterFactory.registerConverter(converter);
+    protected void registerConverter() {
+        if (converterFactory != null) {
+            converterFactory.registerConverter(this);
+        }
     }
 }
@@ -7,13 +7,23 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 单元处理器抽象基类
  * 提供统一的KV合并逻辑，业务子类只需专注数据转换
  * 支持优先级排序和嵌套数据的分层处理
+ * <p>
+ * 目标字段只在读取键模式（{@link #getConsumedKeyPatterns()}）范围内识别：模式之外的字段即使
+ * {@link #isTargetField(String, Object)}为true也不会被读取，处理器链据以划分阶段的读取声明因此覆盖实际读取
+ * <p>
+ * 子类可通过{@link #enableMemoization(int, long, TimeUnit)}开启转换结果记忆缓存：
+ * 以全部目标字段的原始值为键复用转换结果，
+ * 要求processSpecialFields只依赖这些字段且无副作用
  */
 public abstract class AbstractUnitProcessor implements UnitProcessor {
     
@@ -22,6 +32,11 @@ public abstract class AbstractUnitProcessor implements UnitProcessor {
     @Autowired
     private UnitProcessorChain unitProcessorChain;
     
+    /**
+     * 转换结果记忆缓存，为null表示未开启
+     */
+    private volatile ProcessorMemoCache memoCache;
+    
     @Override
     public final MetadataCollectionUnit process(MetadataCollectionUnit unit) {
         if (unit == null || !supports(unit)) {
@@ -30,34 +45,115 @@ public abstract class AbstractUnitProcessor implements UnitProcessor {
         
         // 创建副本避免修改原数据
         MetadataCollectionUnit result = createCopy(unit);
-        Map<String, Object> currentFields = result.getMetadataFields();
         
-        log.debug("Before processing - fields count: {}", currentFields.size());
-        currentFields.forEach((k, v) -> log.debug("  Before: {} = {}", k, v));
+        if (log.isDebugEnabled()) {
+            Map<String, Object> currentFields = result.getMetadataFields();
+            log.debug("Before processing - fields count: {}", currentFields.size());
+            currentFields.forEach((k, v) -> log.debug("  Before: {} = {}", k, v));
+        }
         
-        // 执行业务特定的数据转换
-        Map<String, Object> convertedData = processSpecialFields(unit);
+        // 执行业务特定的数据转换（开启记忆缓存时优先复用）
+        Map<String, Object> convertedData = convertWithMemo(unit);
         
         if (convertedData != null && !convertedData.isEmpty()) {
             String pathPrefix = getFieldPathPrefix();
             
-            // 统一合并转换后的数据到metadata中
+            // 统一合并转换后的数据到副本的metadata中（getMetadataFields返回的是拷贝，不能直接put）
             convertedData.forEach((key, value) -> {
                 String finalKey = pathPrefix.isEmpty() ? key : pathPrefix + "." + key;
-                currentFields.put(finalKey, value);
+                result.addMetadataField(finalKey, value);
                 log.debug("Added converted field: {} = {}", finalKey, value);
             });
             
             log.info("Processor {} converted {} fields with prefix: {}", 
                     getDescription(), convertedData.size(), pathPrefix);
-                    
-            log.debug("After processing - fields count: {}", currentFields.size());
-            currentFields.forEach((k, v) -> log.debug("  After: {} = {}", k, v));
+            
+            if (log.isDebugEnabled()) {
+                Map<String, Object> currentFields = result.getMetadataFields();
+                log.debug("After processing - fields count: {}", currentFields.size());
+                currentFields.forEach((k, v) -> log.debug("  After: {} = {}", k, v));
+            }
         }
         
         return result;
     }
     
+    /**
+     * 查询记忆缓存，未命中时执行转换并写入缓存
+     * 没有目标字段或目标字段值不是不可变类型时不使用缓存
+     */
+    private Map<String, Object> convertWithMemo(MetadataCollectionUnit unit) {
+        ProcessorMemoCache cache = memoCache;
+        if (cache == null) {
+            return processSpecialFields(unit);
+        }
+        
+        Map<String, Object> memoKey = buildMemoKey(unit);
+        if (memoKey == null) {
+            return processSpecialFields(unit);
+        }
+        
+        Map<String, Object> cached = cache.get(memoKey);
+        if (cached != null) {
+            log.debug("Processor {} memo hit for {} target fields", getDescription(), memoKey.size());
+            return cached;
+        }
+        
+        Map<String, Object> convertedData = processSpecialFields(unit);
+        return convertedData == null ? null : cache.put(memoKey, convertedData);
+    }
+    
+    /**
+     * 以全部目标字段构造缓存键，与processSpecialFields读取的字段集合一致；遍历字段时不复制
+     *
+     * @return 缓存键，没有目标字段或存在可变值时返回null
+     */
+    private Map<String, Object> buildMemoKey(MetadataCollectionUnit unit) {
+        Map<String, Object> memoKey = new HashMap<>();
+        unit.forEachMetadataField((key, value) -> {
+            if (isReadableField(key, value)) {
+                memoKey.put(key, value);
+            }
+        });
+        if (memoKey.isEmpty()) {
+            return null;
+        }
+        for (Object value : memoKey.values()) {
+            if (!isImmutableValue(value)) {
+                return null;
+            }
+        }
+        return memoKey;
+    }
+    
+    private static boolean isImmutableValue(Object value) {
+        return value == null || value instanceof String || value instanceof Number
+                || value instanceof Boolean || value instanceof Character || value instanceof Enum;
+    }
+    
+    /**
+     * 开启转换结果记忆缓存，通常在子类构造方法中调用
+     * 
+     * @param maxEntries 最大缓存条目数
+     * @param ttl 条目存活时间
+     * @param unit 时间单位
+     */
+    protected final void enableMemoization(int maxEntries, long ttl, TimeUnit unit) {
+        this.memoCache = new ProcessorMemoCache(maxEntries, ttl, unit);
+        log.info("Enabled memoization for processor {}: maxEntries={}, ttl={} {}",
+                getDescription(), maxEntries, ttl, unit);
+    }
+    
+    /**
+     * 获取记忆缓存统计
+     * 
+     * @return 统计快照，未开启记忆缓存时返回null
+     */
+    public final ProcessorMemoCache.Stats getMemoStats() {
+        ProcessorMemoCache cache = memoCache;
+        return cache != null ? cache.stats() : null;
+    }
+    
     /**
      * 业务子类实现具体的数据转换逻辑
      * 
@@ -68,6 +164,7 @@ public abstract class AbstractUnitProcessor implements UnitProcessor {
     
     /**
      * 检查给定的字段是否是当前处理器负责的字段
+     * 只对读取键模式范围内的字段调用，模式之外的字段一律不处理
      * 
      * @param fieldKey 字段名
      * @param fieldValue 字段值
@@ -83,7 +180,16 @@ public abstract class AbstractUnitProcessor implements UnitProcessor {
         
         // 检查是否包含当前处理器负责的字段
         return unit.getMetadataFields().entrySet().stream()
-                .anyMatch(entry -> isTargetField(entry.getKey(), entry.getValue()));
+                .anyMatch(entry -> isReadableField(entry.getKey(), entry.getValue()));
+    }
+    
+    /**
+     * 默认写入键模式：转换结果统一合并到路径前缀下
+     */
+    @Override
+    public Set<String> getProducedKeyPatterns() {
+        String pathPrefix = getFieldPathPrefix();
+        return Collections.singleton(pathPrefix == null || pathPrefix.isEmpty() ? "*" : pathPrefix + ".*");
     }
     
     /**
@@ -108,12 +214,43 @@ public abstract class AbstractUnitProcessor implements UnitProcessor {
         Map<String, Object> targetFields = new HashMap<>();
         
         fields.entrySet().stream()
-                .filter(entry -> isTargetField(entry.getKey(), entry.getValue()))
+                .filter(entry -> isReadableField(entry.getKey(), entry.getValue()))
                 .forEach(entry -> targetFields.put(entry.getKey(), entry.getValue()));
         
         return targetFields;
     }
 
+    /**
+     * 字段是否在读取键模式范围内且是目标字段
+     */
+    private boolean isReadableField(String fieldKey, Object fieldValue) {
+        return fieldKey != null && isConsumedKey(fieldKey) && isTargetField(fieldKey, fieldValue);
+    }
+    
+    /**
+     * 键是否匹配读取键模式，未声明读取键时视为读取全部键（与处理器链的依赖判断一致）
+     * 
+     * @param fieldKey 字段名
+     * @return true表示在读取范围内
+     */
+    protected final boolean isConsumedKey(String fieldKey) {
+        Set<String> patterns = getConsumedKeyPatterns();
+        if (patterns == null || patterns.isEmpty()) {
+            return true;
+        }
+        for (String pattern : patterns) {
+            if ("*".equals(pattern)) {
+                return true;
+            }
+            if (pattern.endsWith(".*")
+                    ? fieldKey.startsWith(pattern.substring(0, pattern.length() - 1))
+                    : fieldKey.equals(pattern)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Spring容器初始化后自动注册处理器
      */
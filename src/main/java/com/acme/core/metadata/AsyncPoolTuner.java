@@ -0,0 +1,170 @@
+package com.acme.core.metadata;
+
+import com.acme.core.metadata.async.ResizableAsyncEngine;
+import com.acme.core.metadata.metric.AsyncExecutorMetrics;
+import com.acme.core.metadata.metric.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+
+/**
+ * 异步线程池自适应调节器
+ * <p>
+ * 每个周期读取区间排队等待p99、线程利用率、吞吐量和CPU使用率，在上下限内调整常驻线程数：
+ * <ul>
+ *   <li>CPU超过高水位：缩容1个线程，不再用更多线程放大CPU争用</li>
+ *   <li>排队等待超过目标：按当前线程数的1/4（至少1个）扩容；上次扩容后吞吐没有提升说明瓶颈不在线程数，本周期不再扩容</li>
+ *   <li>排队等待低于目标的1/4且线程利用率不足一半：缩容1个线程</li>
+ * </ul>
+ * 线程数上限取max(常驻线程数, 配置的max-pool-size)，同样受调节上限约束；运行时通过{@link #resize}手动调整后以新的max-pool-size为准
+ */
+class AsyncPoolTuner {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncPoolTuner.class);
+
+    private final ResizableAsyncEngine engine;
+    private final AsyncExecutorMetrics metrics;
+    private final DoubleSupplier cpuUsage;
+    private volatile int baselineMaxPoolSize;
+    private final long targetWaitNanos;
+    private final double cpuHighWatermark;
+
+    private volatile int minPoolSize;
+    private volatile int maxPoolSize;
+
+    // 上一周期的采样
+    private LatencyHistogram.Snapshot lastWait;
+    private LatencyHistogram.Snapshot lastRun;
+    private long lastFinished;
+    private long lastTickNanos;
+    private double lastThroughput;
+    private boolean lastGrew;
+
+    AsyncPoolTuner(ResizableAsyncEngine engine, AsyncExecutorMetrics metrics, DoubleSupplier cpuUsage,
+                   int minPoolSize, int maxPoolSize, long targetWaitMillis, double cpuHighWatermark) {
+        this.engine = engine;
+        this.metrics = metrics;
+        this.cpuUsage = cpuUsage != null ? cpuUsage : AsyncPoolTuner::processCpuLoad;
+        this.baselineMaxPoolSize = engine.getMaxPoolSize();
+        this.targetWaitNanos = TimeUnit.MILLISECONDS.toNanos(targetWaitMillis);
+        this.cpuHighWatermark = cpuHighWatermark;
+        setLimits(minPoolSize, maxPoolSize);
+    }
+
+    /**
+     * 运行时调整调节上下限，当前线程数超出新范围时立即收敛
+     */
+    synchronized void setLimits(int minPoolSize, int maxPoolSize) {
+        if (minPoolSize <= 0 || maxPoolSize < minPoolSize) {
+            throw new IllegalArgumentException("Invalid tuning limits: min=" + minPoolSize + ", max=" + maxPoolSize);
+        }
+        this.minPoolSize = minPoolSize;
+        this.maxPoolSize = maxPoolSize;
+        int core = engine.getCorePoolSize();
+        int clamped = Math.max(minPoolSize, Math.min(maxPoolSize, core));
+        if (clamped != core || engine.getMaxPoolSize() > maxPoolSize) {
+            apply(clamped);
+        }
+    }
+
+    /**
+     * 运行时手动调整线程数，同时以新的max-pool-size作为后续调节的基线，避免下一周期按旧值覆盖
+     */
+    synchronized void resize(int corePoolSize, int maxPoolSize) {
+        engine.resize(corePoolSize, maxPoolSize);
+        this.baselineMaxPoolSize = maxPoolSize;
+    }
+
+    int getMinPoolSize() {
+        return minPoolSize;
+    }
+
+    int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    /**
+     * 执行一个调节周期
+     *
+     * @return 调整后的常驻线程数
+     */
+    synchronized int tick() {
+        long now = System.nanoTime();
+        LatencyHistogram.Snapshot wait = metrics.getQueueWait();
+        LatencyHistogram.Snapshot run = metrics.getRunTime();
+        long finished = metrics.getCompleted() + metrics.getFailed();
+        int core = engine.getCorePoolSize();
+        if (lastWait == null) {
+            remember(now, wait, run, finished, 0, false);
+            return core;
+        }
+
+        double seconds = Math.max(1e-3, (now - lastTickNanos) / 1e9);
+        LatencyHistogram.Snapshot waitDelta = wait.since(lastWait);
+        LatencyHistogram.Snapshot runDelta = run.since(lastRun);
+        double throughput = (finished - lastFinished) / seconds;
+        long waitP99 = waitDelta.getCount() > 0 ? waitDelta.getPercentile(0.99) : 0;
+        double utilization = runDelta.getMean() * runDelta.getCount() / (seconds * 1e9 * core);
+        double cpu = cpuUsage.getAsDouble();
+
+        int target = core;
+        String reason = null;
+        if (cpu >= cpuHighWatermark) {
+            target = core - 1;
+            reason = "cpu";
+        } else if (waitP99 > targetWaitNanos) {
+            // 上次扩容没有带来吞吐提升时保持不变
+            if (!lastGrew || throughput > lastThroughput * 1.05) {
+                target = core + Math.max(1, core / 4);
+                reason = "queue wait";
+            }
+        } else if (waitP99 < targetWaitNanos / 4 && utilization < 0.5) {
+            target = core - 1;
+            reason = "idle";
+        }
+        target = Math.max(minPoolSize, Math.min(maxPoolSize, target));
+
+        if (target != core) {
+            apply(target);
+            log.info("Async pool resized {} -> {} ({}): waitP99={}us, utilization={}, throughput={}/s, cpu={}",
+                    core, target, reason, TimeUnit.NANOSECONDS.toMicros(waitP99),
+                    String.format("%.2f", utilization), String.format("%.1f", throughput), String.format("%.2f", cpu));
+        }
+        remember(now, wait, run, finished, throughput, target > core);
+        return target;
+    }
+
+    private void apply(int core) {
+        int max = Math.min(maxPoolSize, Math.max(core, baselineMaxPoolSize));
+        engine.resize(core, Math.max(core, max));
+    }
+
+    private void remember(long now, LatencyHistogram.Snapshot wait, LatencyHistogram.Snapshot run,
+                          long finished, double throughput, boolean grew) {
+        lastTickNanos = now;
+        lastWait = wait;
+        lastRun = run;
+        lastFinished = finished;
+        lastThroughput = throughput;
+        lastGrew = grew;
+    }
+
+    /**
+     * 进程CPU使用率（0-1），不可用时按系统负载估算，均不可用时返回负值
+     */
+    static double processCpuLoad() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            double load = ((com.sun.management.OperatingSystemMXBean) os).getProcessCpuLoad();
+            if (load >= 0) {
+                return load;
+            }
+        }
+        double average = os.getSystemLoadAverage();
+        return average < 0 ? -1 : average / os.getAvailableProcessors();
+    }
+}
@@ -3,25 +3,46 @@ package com.acme.core.metadata;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 转换器工厂 - 简化版
- * 基于类型进行1对1映射，不支持自动匹配
+ * 基于类型进行1对1映射；转换器声明了支持的DTO类型时，可按DTO类型自动匹配
+ * <p>
+ * 按DTO类型的匹配结果缓存在ClassValue中（包括未匹配的结果），命中后为常数时间且无需Map哈希；
+ * 注册表变化时整体替换ClassValue实例，旧的缓存随之失效
  */
 public class ConverterFactory {
     
     private static final Logger log = LoggerFactory.getLogger(ConverterFactory.class);
     
+    /**
+     * 未匹配结果的占位对象，用于缓存负结果
+     */
+    private static final DataConverter NO_CONVERTER = args -> Collections.emptyList();
+    
     private final Map<Class<? extends DataConverter>, DataConverter> converterInstances = new ConcurrentHashMap<>();
     
+    /**
+     * DTO类型到转换器的声明映射（仅在注册/移除时修改）
+     */
+    private final Map<Class<?>, DataConverter> typeRegistrations = new ConcurrentHashMap<>();
+    
+    private volatile ClassValue<DataConverter> typeIndex = newTypeIndex(Collections.emptyMap());
+    
     /**
      * 注册转换器
      * 
      * @param converter 转换器实例
      */
-    public void registerConverter(DataConverter converter) {
+    public synchronized void registerConverter(DataConverter converter) {
         if (converter == null) {
             throw new IllegalArgumentException("Converter cannot be null");
         }
@@ -35,8 +56,24 @@ public class ConverterFactory {
                 ". Each converter type can only be registered once.");
         }
         
+        Set<Class<?>> supportedTypes = converter.getSupportedTypes();
+        if (supportedTypes != null) {
+            for (Class<?> dtoType : supportedTypes) {
+                DataConverter existing = typeRegistrations.get(dtoType);
+                if (existing != null) {
+                    throw new IllegalArgumentException(
+                        "DTO type " + dtoType.getSimpleName() + " is already handled by " + existing.getDescription());
+                }
+            }
+            for (Class<?> dtoType : supportedTypes) {
+                typeRegistrations.put(dtoType, converter);
+            }
+        }
+        
         converterInstances.put(converterClass, converter);
-        log.info("Registered converter: {} -> {}", converterClass.getSimpleName(), converter.getDescription());
+        rebuildTypeIndex();
+        log.info("Registered converter: {} -> {}, dto types: {}", converterClass.getSimpleName(),
+                converter.getDescription(), supportedTypes);
     }
     
     /**
@@ -55,13 +92,27 @@ public class ConverterFactory {
         if (converter != null) {
             log.debug("Found registered converter: {} -> {}", converterClass.getSimpleName(), converter.getDescription());
         } else {
-            log.warn("Converter not found for type: {}. Available types: {}", 
-                    converterClass.getSimpleName(), converterInstances.keySet());
+            log.debug("Converter not found for type: {}", converterClass.getSimpleName());
         }
         
         return converter;
     }
     
+    /**
+     * 根据DTO类型获取转换器实例
+     * 匹配顺序：DTO类本身 -> 父类（由近及远） -> 实现的接口（广度优先）
+     * 
+     * @param dtoType DTO运行时类型
+     * @return 转换器实例，如果没有匹配返回null
+     */
+    public DataConverter getConverterForType(Class<?> dtoType) {
+        if (dtoType == null) {
+            return null;
+        }
+        DataConverter converter = typeIndex.get(dtoType);
+        return converter == NO_CONVERTER ? null : converter;
+    }
+    
     /**
      * 获取已注册的转换器数量
      */
@@ -79,9 +130,11 @@ public class ConverterFactory {
     /**
      * 移除转换器
      */
-    public boolean removeConverter(Class<? extends DataConverter> converterClass) {
+    public synchronized boolean removeConverter(Class<? extends DataConverter> converterClass) {
         DataConverter removed = converterInstances.remove(converterClass);
         if (removed != null) {
+            typeRegistrations.values().removeIf(converter -> converter == removed);
+            rebuildTypeIndex();
             log.info("Removed converter: {} -> {}", converterClass.getSimpleName(), removed.getDescription());
             return true;
         }
@@ -98,9 +151,55 @@ public class ConverterFactory {
     /**
      * 清空所有转换器
      */
-    public void clear() {
+    public synchronized void clear() {
         int count = converterInstances.size();
         converterInstances.clear();
+        typeRegistrations.clear();
+        rebuildTypeIndex();
         log.info("Cleared {} converters", count);
     }
-}
\ No newline at end of file
+    
+    private void rebuildTypeIndex() {
+        typeIndex = newTypeIndex(new HashMap<>(typeRegistrations));
+    }
+    
+    private static ClassValue<DataConverter> newTypeIndex(Map<Class<?>, DataConverter> registrations) {
+        return new ClassValue<DataConverter>() {
+            @Override
+            protected DataConverter computeValue(Class<?> type) {
+                DataConverter converter = resolve(type, registrations);
+                return converter != null ? converter : NO_CONVERTER;
+            }
+        };
+    }
+    
+    private static DataConverter resolve(Class<?> type, Map<Class<?>, DataConverter> registrations) {
+        if (registrations.isEmpty()) {
+            return null;
+        }
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            DataConverter converter = registrations.get(c);
+            if (converter != null) {
+                return converter;
+            }
+        }
+        
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        Set<Class<?>> visited = new HashSet<>();
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            Collections.addAll(queue, c.getInterfaces());
+        }
+        while (!queue.isEmpty()) {
+            Class<?> candidate = queue.poll();
+            if (!visited.add(candidate)) {
+                continue;
+            }
+            DataConverter converter = registrations.get(candidate);
+            if (converter != null) {
+                return converter;
+            }
+            Collections.addAll(queue, candidate.getInterfaces());
+        }
+        return null;
+    }
+}
@@ -2,23 +2,47 @@ package com.acme.core.metadata;
 
 import com.acme.core.metadata.collection.MetadataCollectionUnit;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 数据转换器接口 - 简化版
  * 负责将上游参数转换为监控单元
- * 不再支持自动匹配，需要显式指定转换器类型
+ * 可显式指定转换器类型，也可通过{@link #getSupportedTypes()}声明处理的DTO类型，按DTO类型自动匹配
  */
 public interface DataConverter {
     
     /**
      * 从上游参数中收集监控单元
+     * 默认整批传入；{@link #isElementWise()}返回true时，拦截模式下按DTO逐个调用（每次只传入一个DTO），遇到违规即停止
      * 
      * @param args 上游传入的原始参数
      * @return 收集到的监控单元列表
      */
     List<MetadataCollectionUnit> convert(Object... args);
     
+    /**
+     * 是否逐个DTO独立转换，即convert(a, b)的结果等于convert(a)与convert(b)的结果依次拼接
+     * 返回true时拦截模式逐个DTO转换，首个违规后其余DTO不再转换；
+     * 多个参数合并产出单元的转换器必须保持默认的false
+     * 
+     * @return 默认false，始终整批转换
+     */
+    default boolean isElementWise() {
+        return false;
+    }
+    
+    /**
+     * 获取转换器处理的DTO类型
+     * 声明后可按DTO运行时类型（含父类和接口）自动匹配，返回空集合表示只能显式指定
+     * 
+     * @return 支持的DTO类型集合
+     */
+    default Set<Class<?>> getSupportedTypes() {
+        return Collections.emptySet();
+    }
+    
     /**
      * 获取转换器描述
      * 
@@ -1,6 +1,24 @@
 package com.acme.core.metadata;
 
+import com.acme.core.metadata.async.AsyncExecutionEngine;
+import com.acme.core.metadata.async.ForkJoinAsyncEngine;
+import com.acme.core.metadata.async.LaneAsyncEngine;
+import com.acme.core.metadata.async.NamedThreadFactory;
+import com.acme.core.metadata.async.OverloadPolicy;
+import com.acme.core.metadata.async.ResizableAsyncEngine;
+import com.acme.core.metadata.async.RingBufferAsyncEngine;
+import com.acme.core.metadata.async.ThreadPoolAsyncEngine;
+import com.acme.core.metadata.async.VirtualThreadAsyncEngine;
+import com.acme.core.metadata.async.WaitStrategy;
 import com.acme.core.metadata.collection.MetadataCollectionUnit;
+import com.acme.core.metadata.metric.AsyncExecutorMetrics;
+import com.acme.core.metadata.metric.MetaViolationCounter;
+import com.acme.core.metadata.metric.ValidationTimings;
+import com.acme.core.metadata.metric.ValidationTimings.Stage;
+import com.acme.core.metadata.model.MetaDefinition;
+import com.acme.core.metadata.rule.ValidationContext;
+import com.acme.core.metadata.rule.ViolationRecorder;
+import com.acme.core.metadata.spill.SpillStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -8,14 +26,23 @@ import org.springframework.beans.factory.annotation.Value;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
 
 /**
  * 默认元数据验证器实现（简化版本）
  * <p>
  * 流程：DTO列表 -> Converter -> CollectionUnit -> Processor -> 直接验证
  * <p>
+ * 使用{@link StreamingDataConverter}时各阶段逐单元融合执行，不再构建中间列表
+ * <p>
  * 核心改进：
  * - 支持监控模式从上游传递（MONITOR告警模式/INTERCEPT拦截模式）
  * - 简化验证逻辑，直接使用处理后的数据进行验证
@@ -24,6 +51,7 @@ import java.util.concurrent.*;
 public class DefaultMetadataValidator implements MetadataValidator {
 
     private static final Logger log = LoggerFactory.getLogger(DefaultMetadataValidator.class);
+    private static final Logger metricLog = LoggerFactory.getLogger("MetaMetric");
 
     private final ConverterFactory converterFactory;
     private final UnitProcessorChain processorChain;
@@ -48,8 +76,148 @@ public class DefaultMetadataValidator implements MetadataValidator {
     @Value("${meta.guard.async.keep-alive-seconds:60}")
     private int keepAliveSeconds;
     
-    // 线程池
-    private ThreadPoolExecutor asyncExecutor;
+    // 异步执行引擎：thread-pool（默认）、ring-buffer、fork-join、virtual-thread
+    @Value("${meta.guard.async.engine:thread-pool}")
+    private String asyncEngineType;
+    
+    @Value("${meta.guard.async.ring.wait-strategy:BLOCKING}")
+    private WaitStrategy ringWaitStrategy;
+    
+    @Value("${meta.guard.async.ring.batch-size:64}")
+    private int ringBatchSize;
+    
+    // MONITOR模式异步队列过载策略
+    @Value("${meta.guard.async.overload-policy:CALLER_RUNS}")
+    private OverloadPolicy overloadPolicy;
+    
+    @Value("${meta.guard.async.sample-threshold:0.5}")
+    private double sampleThreshold;
+    
+    // MONITOR任务分道隔离键：none（默认，不分道）、prodId、operateSystem
+    @Value("${meta.guard.async.bulkhead.key:none}")
+    private String bulkheadKey;
+    
+    @Value("${meta.guard.async.bulkhead.lane-capacity:200}")
+    private int bulkheadLaneCapacity;
+    
+    @Value("${meta.guard.async.bulkhead.max-lanes:32}")
+    private int bulkheadMaxLanes;
+    
+    // 带回调的显式异步验证走独立优先道，与MONITOR卸载任务分开计容量并按权重调度
+    @Value("${meta.guard.async.priority.enabled:false}")
+    private boolean priorityEnabled;
+    
+    @Value("${meta.guard.async.priority.queue-capacity:200}")
+    private int priorityQueueCapacity;
+    
+    @Value("${meta.guard.async.priority.weight:4}")
+    private int priorityWeight;
+    
+    // 异步路径在调用线程上完成转换，队列只保留转换后的监控单元，不再持有DTO
+    @Value("${meta.guard.async.extract-on-caller:false}")
+    private boolean extractOnCaller;
+    
+    // MONITOR任务落盘溢出：内存队列满时写入本地分段文件，负载回落后重放（隐含在调用线程上转换）
+    @Value("${meta.guard.async.spill.enabled:false}")
+    private boolean spillEnabled;
+    
+    // 为空时使用java.io.tmpdir下的meta-guard-spill目录
+    @Value("${meta.guard.async.spill.directory:}")
+    private String spillDirectory;
+    
+    @Value("${meta.guard.async.spill.segment-size-mb:64}")
+    private int spillSegmentSizeMb;
+    
+    @Value("${meta.guard.async.spill.max-segments:16}")
+    private int spillMaxSegments;
+    
+    @Value("${meta.guard.async.spill.drain-interval-millis:200}")
+    private long spillDrainIntervalMillis;
+    
+    // 线程池自适应调节：按排队等待、CPU和吞吐在上下限内调整线程数（仅thread-pool引擎）
+    @Value("${meta.guard.async.autotune.enabled:false}")
+    private boolean autotuneEnabled;
+    
+    @Value("${meta.guard.async.autotune.interval-seconds:10}")
+    private int autotuneIntervalSeconds;
+    
+    @Value("${meta.guard.async.autotune.min-pool-size:1}")
+    private int autotuneMinPoolSize;
+    
+    @Value("${meta.guard.async.autotune.max-pool-size:32}")
+    private int autotuneMaxPoolSize;
+    
+    @Value("${meta.guard.async.autotune.target-queue-wait-millis:50}")
+    private long autotuneTargetQueueWaitMillis;
+    
+    @Value("${meta.guard.async.autotune.cpu-high-watermark:0.85}")
+    private double autotuneCpuHighWatermark;
+    
+    // 异步指标周期输出间隔，0表示不输出
+    @Value("${meta.guard.async.metrics-log-interval-seconds:60}")
+    private int metricsLogIntervalSeconds;
+    
+    @Value("${meta.guard.batch.parallel-groups:false}")
+    private boolean batchParallelGroups;
+    
+    // 大批量INTERCEPT分块并行验证：调用线程阻塞等待，首个违规分块之后的分块不再执行
+    @Value("${meta.guard.intercept.parallel.enabled:false}")
+    private boolean interceptParallelEnabled;
+    
+    @Value("${meta.guard.intercept.parallel.threshold:2000}")
+    private int interceptParallelThreshold;
+    
+    @Value("${meta.guard.intercept.parallel.chunk-size:500}")
+    private int interceptChunkSize;
+    
+    @Value("${meta.guard.intercept.parallel.parallelism:4}")
+    private int interceptParallelism;
+    
+    // 分阶段、分规则耗时统计，通过ValidationTimings的快照和报告查看
+    @Value("${meta.guard.metrics.timing.enabled:false}")
+    private boolean timingEnabled;
+    
+    // 分维度违规计数：维度数上限、是否按prodId细分
+    @Value("${meta.guard.metrics.violation.max-series:1000}")
+    private int violationMaxSeries;
+    
+    @Value("${meta.guard.metrics.violation.product-dimension:false}")
+    private boolean violationProductDimension;
+    
+    // 处理器链并行配置
+    @Value("${meta.guard.chain.parallelism:0}")
+    private int chainParallelism;
+    
+    @Value("${meta.guard.chain.parallel-batch-threshold:1000}")
+    private int chainParallelBatchThreshold;
+    
+    @Value("${meta.guard.chain.parallel-field-threshold:256}")
+    private int chainParallelFieldThreshold;
+    
+    // 异步执行引擎
+    private AsyncExecutionEngine asyncEngine;
+    
+    private final AsyncExecutorMetrics asyncMetrics = new AsyncExecutorMetrics();
+    
+    // 分道键解析器，不分道时为null
+    private LaneKeyResolver laneKeyResolver;
+    
+    // 异步指标周期输出
+    private ScheduledExecutorService metricsReporter;
+    
+    // 线程池自适应调节器及其调度线程，未启用时为null
+    private AsyncPoolTuner poolTuner;
+    private ScheduledExecutorService poolTunerScheduler;
+    
+    // 落盘溢出队列及其重放线程，未启用时为null
+    private SpillStore spillStore;
+    private ScheduledExecutorService spillDrainer;
+    
+    // 处理器链批量并行处理池
+    private ForkJoinPool chainPool;
+    
+    // INTERCEPT分块验证池，未启用时为null
+    private ThreadPoolExecutor interceptPool;
 
     public DefaultMetadataValidator(UnifiedMetadataValidationFacade validationFacade) {
         this.validationFacade = validationFacade;
@@ -58,57 +226,273 @@ public class DefaultMetadataValidator implements MetadataValidator {
     }
     
     /**
-     * 初始化异步线程池
+     * 初始化线程池
      */
     @PostConstruct
+    public void init() {
+        if (timingEnabled) {
+            ValidationTimings.setEnabled(true);
+        }
+        if (violationMaxSeries > 0) {
+            MetaViolationCounter.setMaxSeries(violationMaxSeries);
+        }
+        MetaViolationCounter.setProductDimension(violationProductDimension);
+        initAsyncExecutor();
+        initChainPool();
+        initInterceptPool();
+    }
+    
+    /**
+     * 初始化异步执行引擎
+     */
     public void initAsyncExecutor() {
         if (asyncEnabled) {
-            ThreadFactory threadFactory = new ThreadFactory() {
-                private int counter = 0;
-                @Override
-                public Thread newThread(Runnable r) {
-                    Thread thread = new Thread(r, "meta-guard-async-" + (++counter));
-                    thread.setDaemon(true);  // 设置为守护线程
-                    return thread;
+            this.laneKeyResolver = LaneKeyResolver.of(bulkheadKey);
+            this.asyncEngine = createAsyncEngine(new NamedThreadFactory("meta-guard-async-"));
+            asyncMetrics.bindEngine(asyncEngine);
+            if (spillEnabled) {
+                initSpill();
+            }
+            if (autotuneEnabled) {
+                initPoolTuner();
+            }
+            if (metricsLogIntervalSeconds > 0) {
+                metricsReporter = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("meta-guard-async-metric-"));
+                metricsReporter.scheduleAtFixedRate(() -> metricLog.info("meta_async {}", asyncMetrics.intervalReport()),
+                        metricsLogIntervalSeconds, metricsLogIntervalSeconds, TimeUnit.SECONDS);
+            }
+            log.info("Initialized async engine: {}, core={}, max={}, queue={}, keepAlive={}s, overload={}",
+                    asyncEngine.getName(), corePoolSize, maxPoolSize, asyncEngine.queueCapacity(), keepAliveSeconds,
+                    overloadPolicy);
+        } else {
+            log.info("Async validation is disabled");
+        }
+    }
+    
+    /**
+     * 启动线程池自适应调节，引擎不支持调整线程数时只记录日志
+     */
+    private void initPoolTuner() {
+        if (!(asyncEngine instanceof ResizableAsyncEngine)) {
+            log.warn("Async engine {} does not support resizing, autotune disabled", asyncEngine.getName());
+            return;
+        }
+        poolTuner = new AsyncPoolTuner((ResizableAsyncEngine) asyncEngine, asyncMetrics, null,
+                autotuneMinPoolSize, autotuneMaxPoolSize, autotuneTargetQueueWaitMillis, autotuneCpuHighWatermark);
+        poolTunerScheduler = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("meta-guard-async-tuner-"));
+        poolTunerScheduler.scheduleWithFixedDelay(() -> {
+            try {
+                poolTuner.tick();
+            } catch (RuntimeException e) {
+                log.error("Async pool tuning failed: {}", e.getMessage(), e);
+            }
+        }, autotuneIntervalSeconds, autotuneIntervalSeconds, TimeUnit.SECONDS);
+        log.info("Initialized async pool autotune: interval={}s, pool={}-{}, targetQueueWait={}ms, cpuHigh={}",
+                autotuneIntervalSeconds, autotuneMinPoolSize, autotuneMaxPoolSize, autotuneTargetQueueWaitMillis,
+                autotuneCpuHighWatermark);
+    }
+    
+    /**
+     * 运行时调整异步线程数，无需重启；开启自适应调节时后续周期仍会在上下限内继续调整
+     *
+     * @return false表示异步未启用或当前引擎不支持调整线程数
+     */
+    public boolean resizeAsyncPool(int corePoolSize, int maxPoolSize) {
+        if (!(asyncEngine instanceof ResizableAsyncEngine)) {
+            return false;
+        }
+        AsyncPoolTuner tuner = poolTuner;
+        if (tuner != null) {
+            tuner.resize(corePoolSize, maxPoolSize);
+        } else {
+            ((ResizableAsyncEngine) asyncEngine).resize(corePoolSize, maxPoolSize);
+        }
+        log.info("Async pool resized at runtime: core={}, max={}", corePoolSize, maxPoolSize);
+        return true;
+    }
+    
+    /**
+     * 运行时调整自适应调节的上下限
+     *
+     * @return false表示未开启自适应调节
+     */
+    public boolean setAsyncPoolLimits(int minPoolSize, int maxPoolSize) {
+        AsyncPoolTuner tuner = poolTuner;
+        if (tuner == null) {
+            return false;
+        }
+        tuner.setLimits(minPoolSize, maxPoolSize);
+        log.info("Async pool autotune limits changed: {}-{}", minPoolSize, maxPoolSize);
+        return true;
+    }
+    
+    /**
+     * 打开落盘溢出目录并启动重放线程，目录不可用时只记录日志，按未启用处理
+     */
+    private void initSpill() {
+        File directory = spillDirectory == null || spillDirectory.trim().isEmpty()
+                ? new File(System.getProperty("java.io.tmpdir"), "meta-guard-spill")
+                : new File(spillDirectory.trim());
+        try {
+            spillStore = new SpillStore(directory, spillSegmentSizeMb * 1024 * 1024, spillMaxSegments);
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to open spill directory {}, spilling disabled: {}", directory, e.getMessage(), e);
+            return;
+        }
+        spillDrainer = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("meta-guard-spill-"));
+        spillDrainer.scheduleWithFixedDelay(this::drainSpill, spillDrainIntervalMillis, spillDrainIntervalMillis,
+                TimeUnit.MILLISECONDS);
+        log.info("Initialized async spill: dir={}, segment={}MB, maxSegments={}, pending={}",
+                directory, spillSegmentSizeMb, spillMaxSegments, spillStore.getPendingCount());
+    }
+    
+    /**
+     * 按配置创建异步执行引擎
+     * <ul>
+     *   <li>ring-buffer：以core-pool-size作为固定工作线程数，容量取queue-capacity向上取整的2的幂</li>
+     *   <li>fork-join：以max-pool-size作为并行度，queue-capacity限制排队任务数</li>
+     *   <li>virtual-thread：需要Java 21+运行时，queue-capacity限制在途（执行中加等待中）任务数，低版本运行时回退到thread-pool</li>
+     * </ul>
+     * 配置了分道键或启用优先道时改用{@link LaneAsyncEngine}，max-pool-size个工作线程由各道共享；
+     * 只启用优先道时MONITOR任务全部进入默认道，容量取queue-capacity
+     */
+    private AsyncExecutionEngine createAsyncEngine(ThreadFactory threadFactory) {
+        if (laneKeyResolver != null || priorityEnabled) {
+            int laneCapacity = laneKeyResolver != null ? bulkheadLaneCapacity : queueCapacity;
+            int priorityCapacity = priorityEnabled ? priorityQueueCapacity : 0;
+            log.info("Async lanes enabled: key={}, laneCapacity={}, maxLanes={}, priorityCapacity={}, priorityWeight={}",
+                    laneKeyResolver != null ? laneKeyResolver.getAttribute() : "none", laneCapacity, bulkheadMaxLanes,
+                    priorityCapacity, priorityWeight);
+            return new LaneAsyncEngine(maxPoolSize, laneCapacity, bulkheadMaxLanes, priorityCapacity, priorityWeight,
+                    threadFactory);
+        }
+        String type = asyncEngineType == null ? "thread-pool" : asyncEngineType.trim().toLowerCase();
+        switch (type) {
+            case "ring-buffer":
+                return new RingBufferAsyncEngine(queueCapacity, corePoolSize, ringBatchSize, ringWaitStrategy, threadFactory);
+            case "fork-join":
+                return new ForkJoinAsyncEngine(maxPoolSize, queueCapacity, "meta-guard-async-fj-");
+            case "virtual-thread":
+                if (VirtualThreadAsyncEngine.isSupported()) {
+                    return new VirtualThreadAsyncEngine(queueCapacity, "meta-guard-async-vt-");
                 }
+                log.warn("Virtual threads are not supported on Java {}, using thread-pool", System.getProperty("java.version"));
+                break;
+            case "thread-pool":
+                break;
+            default:
+                log.warn("Unknown async engine '{}', using thread-pool", asyncEngineType);
+        }
+        return new ThreadPoolAsyncEngine(corePoolSize, maxPoolSize, keepAliveSeconds, queueCapacity, threadFactory);
+    }
+    
+    /**
+     * 初始化处理器链批量并行处理池
+     * parallelism为0时不创建，处理器链保持顺序执行
+     */
+    public void initChainPool() {
+        if (chainParallelism > 0) {
+            ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory = pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("meta-guard-chain-" + thread.getPoolIndex());
+                thread.setDaemon(true);
+                return thread;
             };
+            this.chainPool = new ForkJoinPool(chainParallelism, threadFactory, null, false);
+            processorChain.setBatchPool(chainPool);
+            processorChain.setParallelBatchThreshold(chainParallelBatchThreshold);
+            processorChain.setParallelExecutor(chainPool);
+            processorChain.setParallelFieldThreshold(chainParallelFieldThreshold);
             
-            this.asyncExecutor = new ThreadPoolExecutor(
-                corePoolSize,
-                maxPoolSize,
-                keepAliveSeconds,
-                TimeUnit.SECONDS,
-                new LinkedBlockingQueue<>(queueCapacity),
-                threadFactory,
-                new ThreadPoolExecutor.CallerRunsPolicy()  // 队列满时调用者线程执行
-            );
-            
-            log.info("Initialized async thread pool: core={}, max={}, queue={}, keepAlive={}s", 
-                    corePoolSize, maxPoolSize, queueCapacity, keepAliveSeconds);
-        } else {
-            log.info("Async validation is disabled");
+            log.info("Initialized processor chain pool: parallelism={}, batchThreshold={}, fieldThreshold={}",
+                    chainParallelism, chainParallelBatchThreshold, chainParallelFieldThreshold);
         }
     }
     
     /**
-     * 销毁异步线程池
+     * 初始化INTERCEPT分块验证池
+     * 队列满时由调用线程执行分块，调用方本来就在同步等待，不需要另外的降级；
+     * 池关闭后同样在调用线程执行（CallerRunsPolicy在关闭后会静默丢弃任务，等待其结果的请求将永远挂起）
+     */
+    public void initInterceptPool() {
+        if (interceptParallelEnabled) {
+            if (interceptChunkSize <= 0 || interceptParallelism <= 0) {
+                throw new IllegalArgumentException("Intercept chunk size and parallelism must be positive");
+            }
+            this.interceptPool = new ThreadPoolExecutor(interceptParallelism, interceptParallelism,
+                    60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(interceptParallelism * 16),
+                    new NamedThreadFactory("meta-guard-intercept-"), (task, pool) -> task.run());
+            interceptPool.allowCoreThreadTimeOut(true);
+            log.info("Initialized intercept chunk pool: parallelism={}, threshold={}, chunkSize={}",
+                    interceptParallelism, interceptParallelThreshold, interceptChunkSize);
+        }
+    }
+    
+    /**
+     * 销毁线程池
      */
     @PreDestroy
+    public void destroy() {
+        destroyAsyncExecutor();
+        destroyChainPool();
+        destroyInterceptPool();
+    }
+    
+    /**
+     * 销毁INTERCEPT分块验证池，未开始的分块被取消，等待它们的请求改在调用线程上执行
+     */
+    public void destroyInterceptPool() {
+        if (interceptPool != null) {
+            for (Runnable task : interceptPool.shutdownNow()) {
+                if (task instanceof Future) {
+                    ((Future<?>) task).cancel(false);
+                }
+            }
+        }
+    }
+    
+    /**
+     * 销毁处理器链并行处理池
+     */
+    public void destroyChainPool() {
+        if (chainPool != null) {
+            processorChain.setBatchPool(null);
+            processorChain.setParallelExecutor(null);
+            chainPool.shutdown();
+        }
+    }
+    
+    /**
+     * 销毁异步执行引擎
+     */
     public void destroyAsyncExecutor() {
-        if (asyncExecutor != null) {
-            log.info("Shutting down async thread pool...");
-            asyncExecutor.shutdown();
+        if (metricsReporter != null) {
+            metricsReporter.shutdownNow();
+        }
+        if (spillDrainer != null) {
+            spillDrainer.shutdownNow();
+        }
+        if (poolTunerScheduler != null) {
+            poolTunerScheduler.shutdownNow();
+        }
+        if (asyncEngine != null) {
+            log.info("Shutting down async engine: {}...", asyncEngine.getName());
+            asyncEngine.shutdown();
             try {
-                if (!asyncExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
-                    log.warn("Async thread pool did not terminate gracefully, forcing shutdown");
-                    asyncExecutor.shutdownNow();
+                if (!asyncEngine.awaitTermination(10, TimeUnit.SECONDS)) {
+                    log.warn("Async engine did not terminate gracefully, forcing shutdown");
+                    asyncEngine.shutdownNow();
                 }
             } catch (InterruptedException e) {
-                log.error("Interrupted while waiting for async thread pool termination", e);
-                asyncExecutor.shutdownNow();
+                log.error("Interrupted while waiting for async engine termination", e);
+                asyncEngine.shutdownNow();
                 Thread.currentThread().interrupt();
             }
         }
+        if (spillStore != null) {
+            // 未执行完的落盘批次保留在文件中，下次启动时重放
+            spillStore.close();
+        }
     }
 
     @Override
@@ -117,6 +501,21 @@ public class DefaultMetadataValidator implements MetadataValidator {
         validate(dtoList, converterClass, MetadataGuard.Mode.MONITOR);
     }
 
+    @Override
+    public void validate(List<Object> dtoList) throws MetaViolationException {
+        validate(dtoList, (Class<? extends DataConverter>) null, MetadataGuard.Mode.MONITOR);
+    }
+
+    @Override
+    public void validate(List<Object> dtoList, MetadataGuard.Mode mode) throws MetaViolationException {
+        validate(dtoList, (Class<? extends DataConverter>) null, mode);
+    }
+
+    /**
+     * 验证入口
+     * converterClass为null时按DTO类型自动匹配转换器
+     */
+    @Override
     public void validate(List<Object> dtoList, Class<? extends DataConverter> converterClass, MetadataGuard.Mode mode) throws MetaViolationException {
         if (dtoList == null || dtoList.isEmpty()) {
             log.debug("No DTOs provided for validation");
@@ -151,7 +550,7 @@ public class DefaultMetadataValidator implements MetadataValidator {
      * 异步验证（仅在MONITOR模式下使用）
      */
     private void validateAsync(List<Object> dtoList, Class<? extends DataConverter> converterClass, MetadataGuard.Mode mode) {
-        if (asyncExecutor == null) {
+        if (asyncEngine == null) {
             log.warn("Async executor not initialized, falling back to sync validation");
             try {
                 validateSync(dtoList, converterClass, mode);
@@ -162,24 +561,329 @@ public class DefaultMetadataValidator implements MetadataValidator {
             return;
         }
         
-        // 提交异步任务
-        asyncExecutor.submit(() -> {
+        ValidationTask task;
+        if (extractsOnCaller()) {
             try {
-                log.debug("Executing async validation for {} DTOs", dtoList.size());
-                doValidate(dtoList, converterClass, mode);
-                log.debug("Async validation completed successfully for {} DTOs", dtoList.size());
+                task = extractTask(dtoList, resolveConverter(dtoList, converterClass), mode, validator.snapshotDefinitions());
             } catch (Exception e) {
-                // 异步模式下所有异常都记录日志，不抛出
-                if (e instanceof MetaViolationException) {
-                    log.warn("Async validation rule violation: {}", e.getMessage());
-                } else {
-                    log.error("Async validation technical error: {}", e.getMessage(), e);
-                }
+                logMonitorFailure(e);
+                return;
             }
-        });
+            if (task == null) {
+                return;
+            }
+        } else {
+            task = () -> doValidate(dtoList, converterClass, mode);
+        }
+        
+        // 提交异步任务
+        submitMonitorTask(laneKeyOf(dtoList), dtoList.size(), task);
         
         log.debug("Submitted async validation task for {} DTOs", dtoList.size());
     }
+    
+    /**
+     * 是否在调用线程上完成转换，落盘溢出需要转换后的单元，启用时总是提前转换
+     */
+    private boolean extractsOnCaller() {
+        return extractOnCaller || spillStore != null;
+    }
+    
+    /**
+     * 在调用线程上完成转换，返回只持有监控单元的验证任务
+     * 转换通常很轻，提前完成后DTO不再被队列引用，调用方随后修改DTO也不影响验证结果
+     *
+     * @return 没有可用转换器或未生成监控单元时返回null
+     */
+    private UnitBatchTask extractTask(List<Object> dtoList, DataConverter converter, MetadataGuard.Mode mode,
+                                      Map<String, MetaDefinition> definitions) {
+        if (converter == null) {
+            return null;
+        }
+        long started = ValidationTimings.start();
+        List<MetadataCollectionUnit> units = converter.convert(dtoList.toArray());
+        ValidationTimings.stage(Stage.CONVERT, started, 0, sizeOf(units));
+        if (units == null || units.isEmpty()) {
+            log.debug("No collection units generated by converter: {}", converter.getDescription());
+            return null;
+        }
+        return new UnitBatchTask(units, mode, definitions);
+    }
+    
+    /**
+     * 为显式异步接口在调用线程上完成类型检查和转换
+     */
+    private ValidationTask extractExplicitTask(List<Object> dtoList, Class<? extends DataConverter> converterClass,
+                                               MetadataGuard.Mode mode) throws MetaViolationException {
+        validateSameType(dtoList);
+        ValidationTask task = extractTask(dtoList, resolveConverter(dtoList, converterClass), mode,
+                validator.snapshotDefinitions());
+        return task != null ? task : () -> { };
+    }
+
+    /**
+     * 取首个DTO的分道键，同一批次的DTO进入同一道
+     */
+    private String laneKeyOf(List<Object> dtoList) {
+        LaneKeyResolver resolver = laneKeyResolver;
+        return resolver != null && !dtoList.isEmpty() ? resolver.resolve(dtoList.get(0)) : null;
+    }
+
+    /**
+     * 提交MONITOR模式的异步验证任务，所有异常只记录日志
+     *
+     * @param laneKey 分道键，不分道或未解析到时为null
+     */
+    private void submitMonitorTask(String laneKey, int dtoCount, ValidationTask task) {
+        dispatchMonitor(laneKey, monitorRunnable(dtoCount, task),
+                task instanceof UnitBatchTask ? (UnitBatchTask) task : null);
+    }
+
+    /**
+     * 包装MONITOR任务：记录排队与执行耗时，所有异常只记录日志
+     */
+    private Runnable monitorRunnable(int dtoCount, ValidationTask task) {
+        return new MonitorTask(dtoCount, task);
+    }
+
+    /**
+     * MONITOR模式下所有异常都记录日志，不抛出
+     *
+     * @return true表示规则违规（正常完成），false表示技术异常
+     */
+    private static boolean logMonitorFailure(Exception e) {
+        if (e instanceof MetaViolationException) {
+            log.warn("Async validation rule violation: {}", e.getMessage());
+            return true;
+        }
+        log.error("Async validation technical error: {}", e.getMessage(), e);
+        return false;
+    }
+
+    /**
+     * 将带回调的任务以高优先级交给异步引擎，队列满时由调用者线程执行
+     */
+    private void dispatch(Runnable task) {
+        if (asyncEngine.offerPriority(task)) {
+            asyncMetrics.recordSubmitted();
+        } else {
+            asyncMetrics.recordCallerRuns();
+            task.run();
+        }
+    }
+
+    /**
+     * 按过载策略卸载MONITOR任务，丢弃的任务只计数，不占用业务线程
+     * 分道时过载只针对任务所在的道判断，DROP_OLDEST只淘汰同一道中的任务；
+     * 启用落盘溢出时，入队失败的单元先写入溢出文件，写入失败才按过载策略处理
+     *
+     * @param spillable 可落盘的单元任务，DTO任务为null
+     */
+    private void dispatchMonitor(String laneKey, Runnable task, UnitBatchTask spillable) {
+        OverloadPolicy policy = overloadPolicy != null ? overloadPolicy : OverloadPolicy.CALLER_RUNS;
+        if (policy == OverloadPolicy.SAMPLE && shouldSampleOut(laneKey)) {
+            asyncMetrics.recordSampledOut();
+            return;
+        }
+        if (asyncEngine.offer(laneKey, task)) {
+            asyncMetrics.recordSubmitted();
+            return;
+        }
+        if (spillable != null && spillStore != null && spillStore.append(spillable.units, spillable.mode)) {
+            asyncMetrics.recordSpilled();
+            return;
+        }
+        switch (policy) {
+            case DROP_OLDEST:
+                evictOldest(laneKey);
+                if (asyncEngine.offer(laneKey, task)) {
+                    asyncMetrics.recordSubmitted();
+                } else {
+                    asyncMetrics.recordDroppedNewest();
+                }
+                return;
+            case DROP_NEWEST:
+            case SAMPLE:
+                asyncMetrics.recordDroppedNewest();
+                return;
+            case CALLER_RUNS:
+            default:
+                asyncMetrics.recordCallerRuns();
+                task.run();
+        }
+    }
+
+    /**
+     * 移除道中最早排队的任务，只丢弃MONITOR任务
+     * 显式异步任务与MONITOR任务可能共用队列，移除到显式任务时在调用者线程执行，保证回调和Future一定完成
+     */
+    private void evictOldest(String laneKey) {
+        Runnable evicted = asyncEngine.pollOldest(laneKey);
+        if (evicted == null) {
+            return;
+        }
+        if (evicted instanceof MonitorTask) {
+            ((MonitorTask) evicted).evicted();
+            asyncMetrics.recordDroppedOldest();
+        } else {
+            asyncMetrics.recordCallerRuns();
+            evicted.run();
+        }
+    }
+
+    /**
+     * 内存队列占用降到一半以下时，把落盘批次按写入顺序重新投递到执行引擎
+     * 批次执行结束（无论成败）后才标记为已消费，进程中途退出时下次启动会重放
+     */
+    private void drainSpill() {
+        try {
+            int threshold = asyncEngine.queueCapacity() / 2;
+            while (asyncEngine.queueSize() < threshold) {
+                SpillStore.SpilledBatch batch = spillStore.poll();
+                if (batch == null) {
+                    return;
+                }
+                UnitBatchTask unitTask = new UnitBatchTask(batch.getUnits(), batch.getMode(),
+                        validator.snapshotDefinitions());
+                // 重放任务被DROP_OLDEST淘汰时归还批次，否则所在分段永远无法删除
+                Runnable task = new MonitorTask(batch.getUnits().size(), () -> {
+                    try {
+                        unitTask.run();
+                    } finally {
+                        spillStore.complete(batch);
+                    }
+                }, () -> spillStore.unread(batch));
+                String laneKey = laneKeyResolver != null && !batch.getUnits().isEmpty()
+                        ? laneKeyResolver.resolve(batch.getUnits().get(0)) : null;
+                if (!asyncEngine.offer(laneKey, task)) {
+                    spillStore.unread(batch);
+                    return;
+                }
+                asyncMetrics.recordReplayed();
+            }
+        } catch (RuntimeException e) {
+            log.error("Spill drain failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 队列占用率超过阈值后，入队概率从1线性降到0
+     * 分道时按任务所在道的占用率计算，单个道积压时只抽样该道
+     */
+    private boolean shouldSampleOut(String laneKey) {
+        int capacity = asyncEngine.queueCapacity(laneKey);
+        if (capacity <= 0) {
+            return false;
+        }
+        double pressure = (double) asyncEngine.queueSize(laneKey) / capacity;
+        if (pressure <= sampleThreshold) {
+            return false;
+        }
+        double keepRatio = sampleThreshold >= 1.0 ? 0.0 : (1.0 - pressure) / (1.0 - sampleThreshold);
+        return ThreadLocalRandom.current().nextDouble() >= keepRatio;
+    }
+
+    /**
+     * 获取异步执行指标：入队、降级与丢弃计数，排队等待与执行耗时分布，队列深度与活跃线程数
+     */
+    public AsyncExecutorMetrics getAsyncMetrics() {
+        return asyncMetrics;
+    }
+
+    @Override
+    public void validateBatch(List<Object> dtoList, MetadataGuard.Mode mode) throws MetaViolationException {
+        if (dtoList == null || dtoList.isEmpty()) {
+            log.debug("No DTOs provided for batch validation");
+            return;
+        }
+
+        Map<Class<?>, List<Object>> groups = groupByType(dtoList);
+
+        if (asyncEnabled && mode == MetadataGuard.Mode.MONITOR && asyncEngine != null) {
+            // 在调用线程上取定义快照，所有分组共享
+            Map<String, MetaDefinition> definitions = validator.snapshotDefinitions();
+            if (extractsOnCaller()) {
+                submitExtractedGroups(groups, dtoList, mode, definitions);
+            } else if (batchParallelGroups && groups.size() > 1) {
+                for (Map.Entry<Class<?>, List<Object>> group : groups.entrySet()) {
+                    submitMonitorTask(laneKeyOf(group.getValue()), group.getValue().size(),
+                            () -> doValidateGroup(group.getKey(), group.getValue(), mode, definitions));
+                }
+            } else {
+                submitMonitorTask(laneKeyOf(dtoList), dtoList.size(), () -> doValidateGroups(groups, mode, definitions));
+            }
+            log.debug("Submitted async batch validation for {} DTOs in {} groups", dtoList.size(), groups.size());
+            return;
+        }
+
+        try {
+            doValidateGroups(groups, mode, validator.snapshotDefinitions());
+        } catch (Exception e) {
+            handleException(e);
+        }
+    }
+
+    /**
+     * 在调用线程上逐组转换后提交，开启分组并行时每组一个任务，否则合并各组单元为一个任务按组顺序验证
+     */
+    private void submitExtractedGroups(Map<Class<?>, List<Object>> groups, List<Object> dtoList,
+                                       MetadataGuard.Mode mode, Map<String, MetaDefinition> definitions) {
+        boolean perGroup = batchParallelGroups && groups.size() > 1;
+        List<MetadataCollectionUnit> merged = new ArrayList<>();
+        for (Map.Entry<Class<?>, List<Object>> group : groups.entrySet()) {
+            UnitBatchTask task;
+            try {
+                task = extractTask(group.getValue(), converterFactory.getConverterForType(group.getKey()), mode, definitions);
+            } catch (Exception e) {
+                logMonitorFailure(e);
+                continue;
+            }
+            if (task == null) {
+                continue;
+            }
+            if (perGroup) {
+                submitMonitorTask(laneKeyOf(group.getValue()), group.getValue().size(), task);
+            } else {
+                merged.addAll(task.units);
+            }
+        }
+        if (!merged.isEmpty()) {
+            submitMonitorTask(laneKeyOf(dtoList), dtoList.size(), new UnitBatchTask(merged, mode, definitions));
+        }
+    }
+
+    /**
+     * 按运行时类型一次遍历分组，保持各类型首次出现的顺序
+     */
+    private Map<Class<?>, List<Object>> groupByType(List<Object> dtoList) throws MetaViolationException {
+        Map<Class<?>, List<Object>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < dtoList.size(); i++) {
+            Object dto = dtoList.get(i);
+            if (dto == null) {
+                throw new MetaViolationException("DTO list contains null element at index " + i);
+            }
+            groups.computeIfAbsent(dto.getClass(), k -> new ArrayList<>()).add(dto);
+        }
+        log.debug("Grouped {} DTOs into {} types", dtoList.size(), groups.size());
+        return groups;
+    }
+
+    private void doValidateGroups(Map<Class<?>, List<Object>> groups, MetadataGuard.Mode mode,
+                                  Map<String, MetaDefinition> definitions) throws Exception {
+        for (Map.Entry<Class<?>, List<Object>> group : groups.entrySet()) {
+            doValidateGroup(group.getKey(), group.getValue(), mode, definitions);
+        }
+    }
+
+    private void doValidateGroup(Class<?> dtoType, List<Object> dtos, MetadataGuard.Mode mode,
+                                 Map<String, MetaDefinition> definitions) throws Exception {
+        DataConverter converter = converterFactory.getConverterForType(dtoType);
+        if (converter == null) {
+            log.debug("No converter declared for DTO type: {}, skipping {} DTOs", dtoType.getSimpleName(), dtos.size());
+            return;
+        }
+        doValidate(dtos, converter, mode, definitions);
+    }
 
     /**
      * 执行完整的验证流程（内部方法，不处理异常）
@@ -187,37 +891,280 @@ public class DefaultMetadataValidator implements MetadataValidator {
     private void doValidate(List<Object> dtoList, Class<? extends DataConverter> converterClass, MetadataGuard.Mode mode) throws Exception {
 
         // 步骤1: 获取转换器并转换数据
-        DataConverter converter = converterFactory.getConverter(converterClass);
+        DataConverter converter = resolveConverter(dtoList, converterClass);
         if (converter == null) {
-            log.warn("No converter found for class: {}", converterClass.getSimpleName());
             return;
         }
 
+        doValidate(dtoList, converter, mode, validator.snapshotDefinitions());
+    }
+
+    /**
+     * 使用指定转换器和元数据定义快照执行验证流程（内部方法，不处理异常）
+     */
+    private void doValidate(List<Object> dtoList, DataConverter converter, MetadataGuard.Mode mode,
+                            Map<String, MetaDefinition> definitions) throws Exception {
+        if (shouldChunk(dtoList, mode)) {
+            doValidateInChunks(dtoList, converter, mode, definitions);
+        } else {
+            doValidateSerial(dtoList, converter, mode, definitions, null);
+        }
+    }
+
+    /**
+     * 只有同步INTERCEPT大批量才分块；绑定了违规记录器时记录器属于调用线程，保持串行
+     */
+    private boolean shouldChunk(List<Object> dtoList, MetadataGuard.Mode mode) {
+        return interceptPool != null && !interceptPool.isShutdown() && mode == MetadataGuard.Mode.INTERCEPT
+                && dtoList.size() >= interceptParallelThreshold && dtoList.size() > interceptChunkSize
+                && ValidationContext.currentRecorder() == null;
+    }
+
+    /**
+     * 分块并行验证，结果与串行执行一致：
+     * <ul>
+     *   <li>首个分块在调用线程上执行，其余分块提交到分块验证池</li>
+     *   <li>按分块序号等待，序号最小的失败分块决定结果，抛出的就是串行执行时遇到的第一个异常</li>
+     *   <li>有分块失败后，序号更大的分块不再开始，已在执行的分块在下一个元素处停止</li>
+     * </ul>
+     */
+    private void doValidateInChunks(List<Object> dtoList, DataConverter converter, MetadataGuard.Mode mode,
+                                    Map<String, MetaDefinition> definitions) throws Exception {
+        int chunkCount = (dtoList.size() + interceptChunkSize - 1) / interceptChunkSize;
+        Exception[] failures = new Exception[chunkCount];
+        AtomicInteger firstFailure = new AtomicInteger(Integer.MAX_VALUE);
+        List<Future<?>> futures = new ArrayList<>(chunkCount - 1);
+        log.debug("Validating {} DTOs in {} parallel chunks", dtoList.size(), chunkCount);
+        try {
+            for (int i = 1; i < chunkCount; i++) {
+                int index = i;
+                futures.add(interceptPool.submit(
+                        () -> runChunk(index, dtoList, converter, mode, definitions, failures, firstFailure)));
+            }
+            runChunk(0, dtoList, converter, mode, definitions, failures, firstFailure);
+            for (int i = 1; i < chunkCount && firstFailure.get() > i; i++) {
+                try {
+                    futures.get(i - 1).get();
+                } catch (CancellationException e) {
+                    if (firstFailure.get() > i) {
+                        // 没有更早的分块失败，是分块池关闭时取消了未开始的分块
+                        runChunk(i, dtoList, converter, mode, definitions, failures, firstFailure);
+                    }
+                } catch (ExecutionException e) {
+                    // runChunk已捕获Exception，这里只会是Error
+                    throw (Error) e.getCause();
+                }
+            }
+        } finally {
+            for (Future<?> future : futures) {
+                future.cancel(false);
+            }
+        }
+        int failed = firstFailure.get();
+        if (failed != Integer.MAX_VALUE) {
+            throw failures[failed];
+        }
+    }
+
+    private void runChunk(int index, List<Object> dtoList, DataConverter converter, MetadataGuard.Mode mode,
+                          Map<String, MetaDefinition> definitions, Exception[] failures, AtomicInteger firstFailure) {
+        if (firstFailure.get() < index) {
+            return;
+        }
+        int from = index * interceptChunkSize;
+        List<Object> chunk = dtoList.subList(from, Math.min(dtoList.size(), from + interceptChunkSize));
+        try {
+            doValidateSerial(chunk, converter, mode, definitions, () -> firstFailure.get() < index);
+        } catch (CancellationException e) {
+            // 更早的分块已失败，本分块结果不再需要
+        } catch (Exception e) {
+            failures[index] = e;
+            int current;
+            while (index < (current = firstFailure.get()) && !firstFailure.compareAndSet(current, index)) {
+                // 保留最小的失败序号
+            }
+        }
+    }
+
+    /**
+     * 串行验证一批DTO
+     *
+     * @param cancelled 分块验证的取消检查，每个元素前调用，返回true时抛出CancellationException；为null表示不可取消
+     */
+    private void doValidateSerial(List<Object> dtoList, DataConverter converter, MetadataGuard.Mode mode,
+                                  Map<String, MetaDefinition> definitions, BooleanSupplier cancelled) throws Exception {
+
         log.debug("Using converter: {} for {} DTOs in {} mode",
                 converter.getDescription(), dtoList.size(), mode);
 
+        // 流式转换器：转换 -> 处理 -> 验证 逐单元融合执行，单元验证后即释放
+        if (converter instanceof StreamingDataConverter) {
+            long started = ValidationTimings.start();
+            long[] nested = new long[1];
+            int[] emitted = new int[1];
+            ((StreamingDataConverter) converter).stream(dtoList, unit -> {
+                checkCancelled(cancelled);
+                long unitStarted = ValidationTimings.start();
+                emitted[0]++;
+                validateUnit(unit, mode, definitions);
+                nested[0] += ValidationTimings.elapsed(unitStarted);
+            });
+            // 转换耗时扣除在接收器内完成的处理和验证，按产出单元平均
+            ValidationTimings.stage(Stage.CONVERT, started, nested[0], emitted[0]);
+            return;
+        }
+
+        // 拦截模式：逐单元 处理 -> 验证，首个违规即终止，后续单元不再处理；
+        // 逐个DTO独立转换的转换器连转换也逐个进行，其余转换器保持整批转换
+        if (mode == MetadataGuard.Mode.INTERCEPT) {
+            if (converter.isElementWise()) {
+                for (Object dto : dtoList) {
+                    checkCancelled(cancelled);
+                    long started = ValidationTimings.start();
+                    List<MetadataCollectionUnit> units = converter.convert(dto);
+                    ValidationTimings.stage(Stage.CONVERT, started, 0, sizeOf(units));
+                    validateUnits(units, mode, definitions, cancelled);
+                }
+            } else {
+                checkCancelled(cancelled);
+                long started = ValidationTimings.start();
+                List<MetadataCollectionUnit> units = converter.convert(dtoList.toArray());
+                ValidationTimings.stage(Stage.CONVERT, started, 0, sizeOf(units));
+                validateUnits(units, mode, definitions, cancelled);
+            }
+            return;
+        }
+
         // 步骤2: 转换为监控单元
+        // 整批计时的阶段按单元平均记录，与逐单元路径口径一致
+        long started = ValidationTimings.start();
         List<MetadataCollectionUnit> units = converter.convert(dtoList.toArray());
+        ValidationTimings.stage(Stage.CONVERT, started, 0, sizeOf(units));
         if (units == null || units.isEmpty()) {
             log.debug("No collection units generated by converter: {}", converter.getDescription());
             return;
         }
 
+        processAndValidate(units, mode, definitions);
+    }
+
+    /**
+     * 整批执行处理器链和核心验证，阶段耗时按单元平均记录
+     */
+    private void processAndValidate(List<MetadataCollectionUnit> units, MetadataGuard.Mode mode,
+                                    Map<String, MetaDefinition> definitions) throws Exception {
         // 步骤3: 处理器链处理（解析特殊字段）
         // 这里保留try-catch是合理的，因为处理器失败不应该中断主流程
+        long started = ValidationTimings.start();
         List<MetadataCollectionUnit> processedUnits = safeProcessUnits(units);
+        ValidationTimings.stage(Stage.PROCESS, started, 0, units.size());
 
         // 步骤4: 核心验证逻辑
-        performCoreValidation(processedUnits, mode);
+        started = ValidationTimings.start();
+        try {
+            performCoreValidation(processedUnits, mode, definitions);
+        } finally {
+            ValidationTimings.stage(Stage.VALIDATE, started, 0, processedUnits.size());
+        }
+    }
+
+    /**
+     * 获取转换器：显式指定时按转换器类型获取，否则按首个DTO的运行时类型匹配
+     */
+    private DataConverter resolveConverter(List<Object> dtoList, Class<? extends DataConverter> converterClass) {
+        if (converterClass != null) {
+            DataConverter converter = converterFactory.getConverter(converterClass);
+            if (converter == null) {
+                log.warn("No converter found for class: {}", converterClass.getSimpleName());
+            }
+            return converter;
+        }
+
+        Object first = dtoList.get(0);
+        if (first == null) {
+            log.warn("Cannot resolve converter for null DTO");
+            return null;
+        }
+        DataConverter converter = converterFactory.getConverterForType(first.getClass());
+        if (converter == null) {
+            log.debug("No converter declared for DTO type: {}", first.getClass().getSimpleName());
+        }
+        return converter;
     }
 
     /**
      * 执行核心验证逻辑（简化版，移除内部异常处理）
      */
-    private void performCoreValidation(List<MetadataCollectionUnit> processedUnits, MetadataGuard.Mode mode) throws Exception {
+    private void performCoreValidation(List<MetadataCollectionUnit> processedUnits, MetadataGuard.Mode mode,
+                                       Map<String, MetaDefinition> definitions) throws Exception {
+        ViolationRecorder recorder = ValidationContext.currentRecorder();
         for (MetadataCollectionUnit unit : processedUnits) {
             unit.setMode(mode);
-            validator.validateKeyValues(unit);
+            if (recorder != null) {
+                recorder.beginUnit(unit);
+            }
+            validator.validateKeyValues(unit, definitions);
+        }
+    }
+
+    private static int sizeOf(List<MetadataCollectionUnit> units) {
+        return units != null ? units.size() : 0;
+    }
+
+    /**
+     * 逐单元处理并验证，每个单元前检查取消
+     */
+    private void validateUnits(List<MetadataCollectionUnit> units, MetadataGuard.Mode mode,
+                               Map<String, MetaDefinition> definitions, BooleanSupplier cancelled) throws Exception {
+        if (units == null) {
+            return;
+        }
+        for (MetadataCollectionUnit unit : units) {
+            checkCancelled(cancelled);
+            validateUnit(unit, mode, definitions);
+        }
+    }
+
+    private static void checkCancelled(BooleanSupplier cancelled) {
+        if (cancelled != null && cancelled.getAsBoolean()) {
+            throw new CancellationException();
+        }
+    }
+
+    /**
+     * 对单个监控单元执行 处理 -> 验证（流式融合路径和拦截模式使用）
+     */
+    private void validateUnit(MetadataCollectionUnit unit, MetadataGuard.Mode mode,
+                              Map<String, MetaDefinition> definitions) throws Exception {
+        if (unit == null) {
+            return;
+        }
+        long started = ValidationTimings.start();
+        MetadataCollectionUnit processedUnit = safeProcessUnit(unit);
+        ValidationTimings.stage(Stage.PROCESS, started);
+        processedUnit.setMode(mode);
+        ViolationRecorder recorder = ValidationContext.currentRecorder();
+        if (recorder != null) {
+            recorder.beginUnit(processedUnit);
+        }
+        started = ValidationTimings.start();
+        try {
+            validator.validateKeyValues(processedUnit, definitions);
+        } finally {
+            ValidationTimings.stage(Stage.VALIDATE, started);
+        }
+    }
+
+    /**
+     * 安全地处理单个监控单元（处理器失败时使用原始单元）
+     */
+    private MetadataCollectionUnit safeProcessUnit(MetadataCollectionUnit unit) {
+        try {
+            MetadataCollectionUnit processedUnit = processorChain.process(unit);
+            return processedUnit != null ? processedUnit : unit;
+        } catch (Exception e) {
+            log.error("Unit processor chain failed, using original unit: {}", e.getMessage());
+            return unit;
         }
     }
 
@@ -303,8 +1250,8 @@ public class DefaultMetadataValidator implements MetadataValidator {
             return;
         }
         
-        // 检查线程池是否可用
-        if (asyncExecutor == null) {
+        // 检查异步引擎是否可用
+        if (asyncEngine == null) {
             log.warn("Async executor not initialized for explicit async validation");
             callback.onFailure(new IllegalStateException("Async validation not available"), 0);
             return;
@@ -313,25 +1260,200 @@ public class DefaultMetadataValidator implements MetadataValidator {
         final AsyncValidationCallback finalCallback = callback;
         final int dtoCount = dtoList.size();
         
-        // 提交异步任务
-        asyncExecutor.submit(() -> {
+        // 执行完整的验证流程（使用MONITOR模式，因为异步验证不抛出异常）
+        ValidationTask task;
+        if (extractsOnCaller()) {
             try {
+                task = extractExplicitTask(dtoList, converterClass, MetadataGuard.Mode.MONITOR);
+            } catch (Exception e) {
+                log.error("Explicit async validation failed for {} DTOs: {}", dtoCount, e.getMessage(), e);
+                finalCallback.onFailure(e, dtoCount);
+                return;
+            }
+        } else {
+            task = () -> {
                 // 验证列表中的对象是否为同一类型
                 validateSameType(dtoList);
-                
-                // 执行完整的验证流程（使用MONITOR模式，因为异步验证不抛出异常）
                 doValidate(dtoList, converterClass, MetadataGuard.Mode.MONITOR);
+            };
+        }
+        
+        // 提交异步任务
+        long enqueuedAt = System.nanoTime();
+        dispatch(() -> {
+            long startedAt = asyncMetrics.taskStarted(enqueuedAt);
+            boolean success = false;
+            try {
+                task.run();
                 
                 log.debug("Explicit async validation completed successfully for {} DTOs", dtoCount);
+                success = true;
                 finalCallback.onSuccess(dtoCount);
                 
             } catch (Exception e) {
                 log.error("Explicit async validation failed for {} DTOs: {}", dtoCount, e.getMessage(), e);
                 finalCallback.onFailure(e, dtoCount);
+            } finally {
+                asyncMetrics.taskFinished(startedAt, success);
             }
         });
         
         log.debug("Submitted explicit async validation task for {} DTOs", dtoCount);
     }
 
-}
\ No newline at end of file
+    @Override
+    public CompletableFuture<ValidationReport> validateAsync(List<Object> dtoList, Class<? extends DataConverter> converterClass,
+                                                             MetadataGuard.Mode mode, Executor callbackExecutor) {
+        CompletableFuture<ValidationReport> future = new CompletableFuture<>();
+        MetadataGuard.Mode actualMode = mode != null ? mode : MetadataGuard.Mode.MONITOR;
+        int dtoCount = dtoList == null ? 0 : dtoList.size();
+        
+        if (dtoCount == 0) {
+            log.debug("No DTOs provided for async validation");
+            future.complete(new ValidationReport.Builder(0, actualMode).build());
+            return future;
+        }
+        if (asyncEngine == null) {
+            log.warn("Async executor not initialized for explicit async validation");
+            future.completeExceptionally(new IllegalStateException("Async validation not available"));
+            return future;
+        }
+        
+        ValidationTask task;
+        if (extractsOnCaller()) {
+            try {
+                task = extractExplicitTask(dtoList, converterClass, actualMode);
+            } catch (Exception e) {
+                log.error("Async validation failed for {} DTOs: {}", dtoCount, e.getMessage(), e);
+                completeOn(future, callbackExecutor, null, e);
+                return future;
+            }
+        } else {
+            task = () -> {
+                validateSameType(dtoList);
+                doValidate(dtoList, converterClass, actualMode);
+            };
+        }
+        
+        long enqueuedAt = System.nanoTime();
+        dispatch(() -> {
+            long startedAt = asyncMetrics.taskStarted(enqueuedAt);
+            ValidationReport.Builder report = new ValidationReport.Builder(dtoCount, actualMode);
+            ViolationRecorder previous = ValidationContext.bindRecorder(report);
+            boolean success = false;
+            try {
+                task.run();
+                success = true;
+                completeOn(future, callbackExecutor, report.build(), null);
+            } catch (Exception e) {
+                if (e instanceof MetaViolationException) {
+                    success = true;
+                    log.debug("Async validation intercepted for {} DTOs: {}", dtoCount, e.getMessage());
+                } else {
+                    log.error("Async validation failed for {} DTOs: {}", dtoCount, e.getMessage(), e);
+                }
+                completeOn(future, callbackExecutor, null, e);
+            } finally {
+                ValidationContext.bindRecorder(previous);
+                asyncMetrics.taskFinished(startedAt, success);
+            }
+        });
+        return future;
+    }
+    
+    /**
+     * 在指定执行器上完成Future，执行器拒绝时在当前线程完成
+     */
+    private static <T> void completeOn(CompletableFuture<T> future, Executor executor, T value, Throwable error) {
+        Runnable completion = () -> {
+            if (error != null) {
+                future.completeExceptionally(error);
+            } else {
+                future.complete(value);
+            }
+        };
+        if (executor == null) {
+            completion.run();
+            return;
+        }
+        try {
+            executor.execute(completion);
+        } catch (RejectedExecutionException e) {
+            log.warn("Callback executor rejected completion, completing on validation thread");
+            completion.run();
+        }
+    }
+
+    /**
+     * 可抛出受检异常的验证任务
+     */
+    @FunctionalInterface
+    private interface ValidationTask {
+        void run() throws Exception;
+    }
+
+    /**
+     * MONITOR模式的异步任务，DROP_OLDEST只丢弃这类任务
+     */
+    private final class MonitorTask implements Runnable {
+        private final int dtoCount;
+        private final ValidationTask task;
+        private final Runnable onEvicted;
+        private final long enqueuedAt = System.nanoTime();
+
+        MonitorTask(int dtoCount, ValidationTask task) {
+            this(dtoCount, task, null);
+        }
+
+        /**
+         * @param onEvicted 未执行就被移出队列时的回调，为null表示直接丢弃
+         */
+        MonitorTask(int dtoCount, ValidationTask task, Runnable onEvicted) {
+            this.dtoCount = dtoCount;
+            this.task = task;
+            this.onEvicted = onEvicted;
+        }
+
+        void evicted() {
+            if (onEvicted != null) {
+                onEvicted.run();
+            }
+        }
+
+        @Override
+        public void run() {
+            long startedAt = asyncMetrics.taskStarted(enqueuedAt);
+            boolean success = true;
+            try {
+                log.debug("Executing async validation for {} DTOs", dtoCount);
+                task.run();
+                log.debug("Async validation completed successfully for {} DTOs", dtoCount);
+            } catch (Exception e) {
+                success = logMonitorFailure(e);
+            } finally {
+                asyncMetrics.taskFinished(startedAt, success);
+            }
+        }
+    }
+
+    /**
+     * 只持有转换后监控单元的验证任务，可落盘
+     */
+    private final class UnitBatchTask implements ValidationTask {
+        private final List<MetadataCollectionUnit> units;
+        private final MetadataGuard.Mode mode;
+        private final Map<String, MetaDefinition> definitions;
+
+        UnitBatchTask(List<MetadataCollectionUnit> units, MetadataGuard.Mode mode, Map<String, MetaDefinition> definitions) {
+            this.units = units;
+            this.mode = mode;
+            this.definitions = definitions;
+        }
+
+        @Override
+        public void run() throws Exception {
+            processAndValidate(units, mode, definitions);
+        }
+    }
+
+}
@@ -27,6 +27,13 @@ public class DefaultUnifiedMetadataValidator implements UnifiedMetadataValidator
         this.registry = registry;
     }
 
+    /**
+     * 按名称注册键值转换器，同名时覆盖
+     */
+    public void registerConverter(String name, DataConverter converter) {
+        converters.put(name, converter);
+    }
+
     @Override
     public void validate(MetadataCollectionUnit unit) throws MetaViolationException {
         if (unit == null) return;
@@ -67,7 +74,20 @@ public class DefaultUnifiedMetadataValidator implements UnifiedMetadataValidator
      * 简化版本，异常处理交给调用方统一处理
      */
     public void validateKeyValues(MetadataCollectionUnit unit) throws MetaViolationException {
-        Map<String, MetaDefinition> defs = registry.getAll();
+        validateKeyValues(unit, registry.getAll());
+    }
+
+    @Override
+    public Map<String, MetaDefinition> snapshotDefinitions() {
+        return registry.getAll();
+    }
+
+    /**
+     * 使用指定的元数据定义快照验证，批量验证时所有单元共享同一份快照
+     */
+    @Override
+    public void validateKeyValues(MetadataCollectionUnit unit, Map<String, MetaDefinition> definitions) throws MetaViolationException {
+        Map<String, MetaDefinition> defs = definitions != null ? definitions : registry.getAll();
         ValidationPipeline pipe = ValidationPipeline.instance();
 
         for (Map.Entry<String, Object> entry : unit.getAllValidationData().entrySet()) {
@@ -0,0 +1,102 @@
+package com.acme.core.metadata;
+
+import com.acme.core.metadata.annotation.MetaField;
+import com.acme.core.metadata.collection.MetadataCollectionUnit;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 异步分道键解析器
+ * 从DTO上标注{@link MetaField}的字段读取prodId或operateSystem作为分道键，
+ * 别名与{@link DefaultMetadataGuard}一致（system、productCode），查找DTO及其父类声明的字段，不进入嵌套对象
+ */
+class LaneKeyResolver {
+
+    private final String attribute;
+    private final Set<String> names;
+
+    private final ClassValue<Field> keyFields = new ClassValue<Field>() {
+        @Override
+        protected Field computeValue(Class<?> type) {
+            return findKeyField(type);
+        }
+    };
+
+    private LaneKeyResolver(String attribute, String... names) {
+        this.attribute = attribute;
+        this.names = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(names)));
+    }
+
+    /**
+     * 按配置创建解析器
+     *
+     * @param attribute prodId、operateSystem，none或空表示不分道
+     * @return 不分道时返回null
+     */
+    static LaneKeyResolver of(String attribute) {
+        String value = attribute == null ? "" : attribute.trim();
+        if (value.isEmpty() || "none".equalsIgnoreCase(value)) {
+            return null;
+        }
+        if ("prodId".equalsIgnoreCase(value)) {
+            return new LaneKeyResolver("prodId", "prodId", "productCode");
+        }
+        if ("operateSystem".equalsIgnoreCase(value)) {
+            return new LaneKeyResolver("operateSystem", "operateSystem", "system");
+        }
+        throw new IllegalArgumentException("Unsupported bulkhead key: " + attribute);
+    }
+
+    String getAttribute() {
+        return attribute;
+    }
+
+    /**
+     * 解析分道键
+     *
+     * @return 未找到字段或字段值为null时返回null（归入默认道）
+     */
+    String resolve(Object dto) {
+        if (dto == null) {
+            return null;
+        }
+        Field field = keyFields.get(dto.getClass());
+        if (field == null) {
+            return null;
+        }
+        try {
+            Object value = field.get(dto);
+            return value != null ? String.valueOf(value) : null;
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 从转换后的监控单元解析分道键
+     */
+    String resolve(MetadataCollectionUnit unit) {
+        return "prodId".equals(attribute) ? unit.getProdId() : unit.getOperateSystem();
+    }
+
+    private Field findKeyField(Class<?> type) {
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                MetaField metaField = field.getAnnotation(MetaField.class);
+                if (metaField != null && names.contains(metaField.value())) {
+                    try {
+                        field.setAccessible(true);
+                        return field;
+                    } catch (RuntimeException e) {
+                        return null;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -1,6 +1,8 @@
 package com.acme.core.metadata;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * 元数据验证器 - 简化统一入口
@@ -27,6 +29,33 @@ public interface MetadataValidator {
      */
     void validate(List<Object> dtoList, Class<? extends DataConverter> converterClass, MetadataGuard.Mode mode) throws MetaViolationException;
     
+    /**
+     * 验证入口（按DTO类型自动匹配转换器，使用默认告警模式）
+     * 
+     * @param dtoList 同一种结构体的列表，转换器需通过DataConverter#getSupportedTypes声明该类型
+     * @throws MetaViolationException 验证失败时抛出（仅拦截模式）
+     */
+    void validate(List<Object> dtoList) throws MetaViolationException;
+    
+    /**
+     * 验证入口（按DTO类型自动匹配转换器，指定监控模式）
+     * 
+     * @param dtoList 同一种结构体的列表，转换器需通过DataConverter#getSupportedTypes声明该类型
+     * @param mode 监控模式：MONITOR（告警模式）或 INTERCEPT（拦截模式）
+     * @throws MetaViolationException 验证失败时抛出（仅拦截模式）
+     */
+    void validate(List<Object> dtoList, MetadataGuard.Mode mode) throws MetaViolationException;
+    
+    /**
+     * 混合类型批量验证入口
+     * 按运行时类型一次遍历完成分组，各组按DTO类型匹配转换器，所有分组共享同一份元数据定义快照
+     * 
+     * @param dtoList 可包含多种结构体的列表
+     * @param mode 监控模式：MONITOR（告警模式）或 INTERCEPT（拦截模式）
+     * @throws MetaViolationException 验证失败时抛出（仅拦截模式）
+     */
+    void validateBatch(List<Object> dtoList, MetadataGuard.Mode mode) throws MetaViolationException;
+    
     /**
      * 注册数据转换器
      */
@@ -45,4 +74,29 @@ public interface MetadataValidator {
      * @param callback 异步回调（可选）
      */
     void validateAsync(List<Object> dtoList, Class<? extends DataConverter> converterClass, AsyncValidationCallback callback);
+    
+    /**
+     * 异步验证入口，返回按单元、按键汇总的验证报告
+     * MONITOR模式下报告包含全部违规；INTERCEPT模式下首个违规以MetaViolationException异常完成；
+     * 技术异常同样以异常完成
+     * 
+     * @param dtoList 同一种结构体的列表
+     * @param converterClass 转换器类型，为null时按DTO类型自动匹配
+     * @param mode 监控模式
+     * @param callbackExecutor 完成Future的执行器，为null时在验证线程上完成
+     * @return 验证报告
+     */
+    CompletableFuture<ValidationReport> validateAsync(List<Object> dtoList, Class<? extends DataConverter> converterClass,
+                                                      MetadataGuard.Mode mode, Executor callbackExecutor);
+    
+    /**
+     * 异步验证入口（按DTO类型自动匹配转换器，在验证线程上完成Future）
+     * 
+     * @param dtoList 同一种结构体的列表
+     * @param mode 监控模式
+     * @return 验证报告
+     */
+    default CompletableFuture<ValidationReport> validateAsync(List<Object> dtoList, MetadataGuard.Mode mode) {
+        return validateAsync(dtoList, null, mode, null);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,180 @@
+package com.acme.core.metadata;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 处理器转换结果的记忆缓存
+ * 以处理器目标字段的原始值为键缓存转换结果，适用于纯函数式的解码逻辑
+ * <p>
+ * 有界并发实现：条目先写入新生代，新生代达到容量一半时整体降为老生代，原老生代整体丢弃；
+ * 老生代命中的条目会被提升回新生代，因此总条目数不超过容量且近似按最近使用淘汰。
+ * 超过存活时间的条目在读取时失效；命中、未命中、淘汰和过期次数使用LongAdder统计
+ */
+public final class ProcessorMemoCache {
+    
+    private final int generationCapacity;
+    private final long ttlNanos;
+    
+    private final AtomicReference<Generations> generations;
+    
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    
+    /**
+     * @param maxEntries 最大条目数
+     * @param ttl 条目存活时间
+     * @param unit 时间单位
+     */
+    public ProcessorMemoCache(int maxEntries, long ttl, TimeUnit unit) {
+        if (maxEntries <= 1) {
+            throw new IllegalArgumentException("maxEntries must be greater than 1");
+        }
+        if (ttl <= 0) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+        this.generationCapacity = maxEntries / 2;
+        this.ttlNanos = unit.toNanos(ttl);
+        this.generations = new AtomicReference<>(newGenerations(null));
+    }
+    
+    /**
+     * 查询缓存
+     * 
+     * @param key 目标字段原始值
+     * @return 缓存的只读转换结果，未命中或已过期返回null
+     */
+    public Map<String, Object> get(Object key) {
+        Generations current = generations.get();
+        Entry entry = current.young.get(key);
+        boolean fromOld = false;
+        if (entry == null) {
+            entry = current.old.get(key);
+            fromOld = entry != null;
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (System.nanoTime() - entry.createdAt > ttlNanos) {
+            if (current.young.remove(key, entry) | current.old.remove(key, entry)) {
+                expirations.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        if (fromOld) {
+            // 老生代命中，提升到新生代避免在下次轮换时被淘汰
+            current.young.putIfAbsent(key, entry);
+            rotateIfFull(current);
+        }
+        hits.increment();
+        return entry.value;
+    }
+    
+    /**
+     * 写入缓存
+     * 
+     * @param key 目标字段原始值（必须不可变）
+     * @param value 转换结果，缓存只读副本
+     * @return 缓存中的只读结果
+     */
+    public Map<String, Object> put(Object key, Map<String, Object> value) {
+        Entry entry = new Entry(Collections.unmodifiableMap(new HashMap<>(value)), System.nanoTime());
+        Generations current = generations.get();
+        current.young.put(key, entry);
+        rotateIfFull(current);
+        return entry.value;
+    }
+    
+    private void rotateIfFull(Generations current) {
+        if (current.young.size() >= generationCapacity
+                && generations.compareAndSet(current, newGenerations(current.young))) {
+            evictions.add(current.old.size());
+        }
+    }
+    
+    private Generations newGenerations(ConcurrentHashMap<Object, Entry> old) {
+        return new Generations(new ConcurrentHashMap<>(Math.min(generationCapacity, 1024)),
+                old != null ? old : new ConcurrentHashMap<>());
+    }
+    
+    /**
+     * 清空缓存（统计数据保留）
+     */
+    public void clear() {
+        generations.set(newGenerations(null));
+    }
+    
+    /**
+     * 获取统计快照
+     */
+    public Stats stats() {
+        Generations current = generations.get();
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum(),
+                current.young.size() + current.old.size());
+    }
+    
+    private static final class Generations {
+        final ConcurrentHashMap<Object, Entry> young;
+        final ConcurrentHashMap<Object, Entry> old;
+        
+        Generations(ConcurrentHashMap<Object, Entry> young, ConcurrentHashMap<Object, Entry> old) {
+            this.young = young;
+            this.old = old;
+        }
+    }
+    
+    private static final class Entry {
+        final Map<String, Object> value;
+        final long createdAt;
+        
+        Entry(Map<String, Object> value, long createdAt) {
+            this.value = value;
+            this.createdAt = createdAt;
+        }
+    }
+    
+    /**
+     * 缓存统计快照
+     */
+    public static final class Stats {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final long expirations;
+        private final int size;
+        
+        Stats(long hits, long misses, long evictions, long expirations, int size) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.expirations = expirations;
+            this.size = size;
+        }
+        
+        public long getHits() { return hits; }
+        public long getMisses() { return misses; }
+        public long getEvictions() { return evictions; }
+        public long getExpirations() { return expirations; }
+        public int getSize() { return size; }
+        
+        public double getHitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+        
+        @Override
+        public String toString() {
+            return "Stats{hits=" + hits + ", misses=" + misses + ", evictions=" + evictions +
+                   ", expirations=" + expirations + ", size=" + size + '}';
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.acme.core.metadata;
+
+import com.acme.core.metadata.collection.MetadataCollectionUnit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 流式数据转换器
+ * 逐个产出监控单元并交给下游接收器，不再一次性构建完整的单元列表。
+ * 验证器会对每个单元就地完成 处理 -> 验证，单元随即释放，大批量调用的峰值内存保持平稳；
+ * 拦截模式下接收器抛出的违规异常会直接终止剩余元素的转换
+ */
+public interface StreamingDataConverter extends DataConverter {
+    
+    /**
+     * 逐个转换上游参数并推送给接收器
+     * 
+     * @param sources 上游传入的原始参数
+     * @param sink 单元接收器，其抛出的异常应原样向上传播
+     * @throws Exception 接收器或转换过程抛出的异常
+     */
+    void stream(List<?> sources, UnitSink sink) throws Exception;
+    
+    /**
+     * 兼容批量接口：收集全部单元后返回
+     */
+    @Override
+    default List<MetadataCollectionUnit> convert(Object... args) {
+        List<MetadataCollectionUnit> units = new ArrayList<>();
+        try {
+            stream(Arrays.asList(args), units::add);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Streaming conversion failed: " + e.getMessage(), e);
+        }
+        return units;
+    }
+    
+    /**
+     * 监控单元接收器
+     */
+    @FunctionalInterface
+    interface UnitSink {
+        
+        /**
+         * 接收一个转换完成的监控单元
+         * 
+         * @param unit 监控单元
+         * @throws Exception 处理或验证失败（如拦截模式下的MetaViolationException）
+         */
+        void accept(MetadataCollectionUnit unit) throws Exception;
+    }
+}
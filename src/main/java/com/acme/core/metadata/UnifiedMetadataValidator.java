@@ -2,8 +2,11 @@ package com.acme.core.metadata;
 
 import com.acme.core.metadata.collection.MetadataCollectionUnit;
 import com.acme.core.metadata.converter.DataConverter;
+import com.acme.core.metadata.model.MetaDefinition;
 import com.acme.core.metadata.rule.ValidationContext;
 
+import java.util.Map;
+
 /**
  * 统一的元数据验证入口接口
  * 支持多种数据结构类型的验证，业务方可自定义转换逻辑
@@ -23,5 +26,23 @@ public interface UnifiedMetadataValidator {
      * @throws MetaViolationException 业务规则验证失败时抛出
      */
     void validateKeyValues(MetadataCollectionUnit unit) throws MetaViolationException;
+    
+    /**
+     * 获取元数据定义快照，用于一次批量验证内的所有单元共享同一份定义
+     * @return 元数据定义快照，不支持快照时返回null
+     */
+    default Map<String, MetaDefinition> snapshotDefinitions() {
+        return null;
+    }
+    
+    /**
+     * 使用指定的元数据定义快照验证键值对数据
+     * @param unit 包含所有验证数据和上下文的监控单元
+     * @param definitions 元数据定义快照，为null时使用当前定义
+     * @throws MetaViolationException 业务规则验证失败时抛出
+     */
+    default void validateKeyValues(MetadataCollectionUnit unit, Map<String, MetaDefinition> definitions) throws MetaViolationException {
+        validateKeyValues(unit);
+    }
 
 }
\ No newline at end of file
@@ -1,7 +1,9 @@
 package com.acme.core.metadata;
 
 import com.acme.core.metadata.collection.MetadataCollectionUnit;
-import java.util.Map;
+
+import java.util.Collections;
+import java.util.Set;
 
 /**
  * 监控单元处理器接口
@@ -45,6 +47,28 @@ public interface UnitProcessor {
         return this.getClass().getSimpleName();
     }
     
+    /**
+     * 获取处理器读取的键模式
+     * 支持精确键（如creditExtInfo）、前缀通配（如extInfo.creditExtInfo.*）以及全部键（*）
+     * 必须覆盖处理器实际读取的全部键，否则处理器链可能把该键的写入方与它放在同一阶段并行执行
+     * 返回空集合表示未声明，处理器链会将其视为与所有处理器存在依赖
+     * 
+     * @return 读取的键模式集合
+     */
+    default Set<String> getConsumedKeyPatterns() {
+        return Collections.emptySet();
+    }
+    
+    /**
+     * 获取处理器写入的键模式
+     * 格式同{@link #getConsumedKeyPatterns()}，返回空集合表示未声明
+     * 
+     * @return 写入的键模式集合
+     */
+    default Set<String> getProducedKeyPatterns() {
+        return Collections.emptySet();
+    }
+    
     /**
      * 处理监控单元（核心方法）
      * 
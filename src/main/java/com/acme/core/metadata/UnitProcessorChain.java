@@ -6,22 +6,67 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * 监控单元处理器链
  * 按优先级顺序执行多个处理器
  * Spring管理的单例Bean
+ * <p>
+ * 注册/移除时生成按优先级排好序的不可变数组快照，并通过volatile引用整体发布；
+ * 处理热路径只读取一次快照并遍历普通数组，无锁、无排序检查，热更新处理器时为原子替换。
+ * <p>
+ * 发布快照时同时根据处理器声明的读写键模式构建依赖图（DAG），划分为若干执行阶段：
+ * 同一阶段内的处理器读写互不相交。配置并行执行器后，字段数达到阈值的大单元
+ * 会并行执行同一阶段内的处理器，并按优先级顺序确定性地合并各自的输出。
+ * <p>
+ * 配置批处理ForkJoinPool后，超过阈值的批量处理会拆分到池中并行执行，输出顺序与输入一致；
+ * 小批量仍在调用线程上顺序执行，不影响单DTO调用的延迟。
  */
 @Component
 public class UnitProcessorChain {
     
     private static final Logger log = LoggerFactory.getLogger(UnitProcessorChain.class);
     
-    private final List<UnitProcessor> processors = new CopyOnWriteArrayList<>();
-    private volatile boolean sorted = true;
+    private static final UnitProcessor[] EMPTY = new UnitProcessor[0];
+    
+    private static final Comparator<UnitProcessor> BY_ORDER = Comparator.comparingInt(UnitProcessor::getOrder);
+    
+    /**
+     * 已排序的处理器快照及其执行计划，发布后不再修改
+     */
+    private volatile ExecutionPlan plan = ExecutionPlan.EMPTY_PLAN;
+    
+    /**
+     * 同阶段处理器并行执行使用的执行器，为null时始终顺序执行
+     */
+    private volatile Executor parallelExecutor;
+    
+    /**
+     * 触发阶段内并行执行的最小字段数
+     */
+    private volatile int parallelFieldThreshold = 256;
+    
+    /**
+     * 批量并行处理使用的ForkJoinPool，为null时processAll始终顺序执行
+     */
+    private volatile ForkJoinPool batchPool;
+    
+    /**
+     * 触发批量并行处理的最小单元数
+     */
+    private volatile int parallelBatchThreshold = 1000;
     
     /**
      * 注册处理器
@@ -33,8 +78,14 @@ public class UnitProcessorChain {
             throw new IllegalArgumentException("Processor cannot be null");
         }
         
-        processors.add(processor);
-        sorted = false; // 标记需要重新排序
+        synchronized (this) {
+            UnitProcessor[] current = plan.processors;
+            UnitProcessor[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = processor;
+            // 稳定排序：相同优先级保持注册顺序
+            Arrays.sort(next, BY_ORDER);
+            plan = ExecutionPlan.build(next);
+        }
         log.info("Registered unit processor: {} with order {}", 
                 processor.getDescription(), processor.getOrder());
     }
@@ -51,33 +102,123 @@ public class UnitProcessorChain {
             return null;
         }
         
-        ensureSorted();
+        ExecutionPlan current = plan;
+        Executor executor = parallelExecutor;
+        if (executor == null || !current.hasParallelStage()
+                || unit.getMetadataFieldCount() < parallelFieldThreshold) {
+            return processSequential(current.processors, unit);
+        }
         
+        MetadataCollectionUnit currentUnit = unit;
+        for (UnitProcessor[] stage : current.stages) {
+            currentUnit = stage.length == 1
+                    ? processSequential(stage, currentUnit)
+                    : processStageInParallel(stage, currentUnit, executor);
+        }
+        return currentUnit;
+    }
+    
+    /**
+     * 按顺序执行给定的处理器
+     */
+    private MetadataCollectionUnit processSequential(UnitProcessor[] processors, MetadataCollectionUnit unit) {
         MetadataCollectionUnit currentUnit = unit;
         
         for (UnitProcessor processor : processors) {
+            MetadataCollectionUnit processedUnit = applyProcessor(processor, currentUnit);
+            if (processedUnit != null) {
+                currentUnit = processedUnit;
+            }
+        }
+        
+        return currentUnit;
+    }
+    
+    /**
+     * 并行执行同一阶段内互不依赖的处理器
+     * 每个处理器基于同一输入运行，输出相对输入的新增/变更/删除字段按优先级顺序合并，结果与顺序执行一致
+     */
+    private MetadataCollectionUnit processStageInParallel(UnitProcessor[] stage, MetadataCollectionUnit unit,
+                                                          Executor executor) {
+        List<CompletableFuture<MetadataCollectionUnit>> futures = new ArrayList<>(stage.length - 1);
+        for (int i = 1; i < stage.length; i++) {
+            UnitProcessor processor = stage[i];
+            futures.add(CompletableFuture.supplyAsync(() -> applyProcessor(processor, unit), executor));
+        }
+        
+        MetadataCollectionUnit[] outputs = new MetadataCollectionUnit[stage.length];
+        outputs[0] = applyProcessor(stage[0], unit);
+        for (int i = 1; i < stage.length; i++) {
             try {
-                if (processor.supports(currentUnit)) {
-                    log.debug("Processing unit with processor: {}", processor.getDescription());
-                    MetadataCollectionUnit processedUnit = processor.process(currentUnit);
-                    
-                    if (processedUnit != null) {
-                        currentUnit = processedUnit;
-                        log.debug("Unit processed successfully by: {}", processor.getDescription());
-                    } else {
-                        log.warn("Processor {} returned null, skipping", processor.getDescription());
-                    }
+                outputs[i] = futures.get(i - 1).join();
+            } catch (Exception e) {
+                log.error("Error processing unit with processor {}: {}",
+                        stage[i].getDescription(), e.getMessage(), e);
+            }
+        }
+        
+        Map<String, Object> inputFields = unit.getMetadataFields();
+        Map<String, Object> mergedFields = new HashMap<>(inputFields);
+        boolean changed = false;
+        for (MetadataCollectionUnit output : outputs) {
+            if (output == null || output == unit) {
+                continue;
+            }
+            Map<String, Object> outputFields = output.getMetadataFields();
+            for (Map.Entry<String, Object> entry : outputFields.entrySet()) {
+                String key = entry.getKey();
+                Object value = entry.getValue();
+                if (!inputFields.containsKey(key) || !Objects.equals(inputFields.get(key), value)) {
+                    mergedFields.put(key, value);
+                    changed = true;
+                }
+            }
+            // 处理器删除的字段同样视为写入
+            for (String key : inputFields.keySet()) {
+                if (!outputFields.containsKey(key)) {
+                    mergedFields.remove(key);
+                    changed = true;
+                }
+            }
+        }
+        
+        if (!changed) {
+            return unit;
+        }
+        MetadataCollectionUnit merged = new MetadataCollectionUnit();
+        merged.copyEnvFrom(unit);
+        merged.setMode(unit.getMode());
+        merged.setMetadataFields(mergedFields);
+        return merged;
+    }
+    
+    /**
+     * 执行单个处理器，异常与null结果均被隔离
+     * 
+     * @return 处理后的单元，处理器不支持、返回null或抛出异常时返回null
+     */
+    private MetadataCollectionUnit applyProcessor(UnitProcessor processor, MetadataCollectionUnit currentUnit) {
+        try {
+            if (processor.supports(currentUnit)) {
+                log.debug("Processing unit with processor: {}", processor.getDescription());
+                MetadataCollectionUnit processedUnit = processor.process(currentUnit);
+                
+                if (processedUnit != null) {
+                    log.debug("Unit processed successfully by: {}", processor.getDescription());
                 } else {
-                    log.debug("Processor {} does not support this unit, skipping", processor.getDescription());
+                    log.warn("Processor {} returned null, skipping", processor.getDescription());
                 }
-            } catch (Exception e) {
-                log.error("Error processing unit with processor {}: {}", 
-                         processor.getDescription(), e.getMessage(), e);
-                // 继续执行其他处理器，不中断整个链
+                return processedUnit;
+            } else {
+                log.debug("Processor {} does not support this unit, skipping", processor.getDescription());
             }
+        } catch (Exception e) {
+            log.error("Error processing unit with processor {}: {}", 
+                     processor.getDescription(), e.getMessage(), e);
+            // 继续执行其他处理器，不中断整个链
         }
         
-        return currentUnit;
+        return null;
     }
     
     /**
@@ -91,7 +232,12 @@ public class UnitProcessorChain {
             return units;
         }
         
-        List<MetadataCollectionUnit> processedUnits = new ArrayList<>();
+        ForkJoinPool pool = batchPool;
+        if (pool != null && units.size() >= parallelBatchThreshold) {
+            return processAllInParallel(units, pool);
+        }
+        
+        List<MetadataCollectionUnit> processedUnits = new ArrayList<>(units.size());
         
         for (MetadataCollectionUnit unit : units) {
             MetadataCollectionUnit processedUnit = process(unit);
@@ -103,55 +249,289 @@ public class UnitProcessorChain {
         return processedUnits;
     }
     
+    /**
+     * 在ForkJoinPool中并行处理大批量单元
+     * 结果按输入下标写回数组，保证输出顺序；单个单元处理失败时保留原始单元，不影响其他单元
+     */
+    private List<MetadataCollectionUnit> processAllInParallel(List<MetadataCollectionUnit> units, ForkJoinPool pool) {
+        MetadataCollectionUnit[] input = units.toArray(new MetadataCollectionUnit[0]);
+        MetadataCollectionUnit[] output = new MetadataCollectionUnit[input.length];
+        int leafSize = Math.max(64, input.length / (pool.getParallelism() * 4));
+        
+        pool.invoke(new ProcessRangeTask(this, input, output, 0, input.length, leafSize));
+        
+        List<MetadataCollectionUnit> processedUnits = new ArrayList<>(output.length);
+        for (MetadataCollectionUnit processedUnit : output) {
+            if (processedUnit != null) {
+                processedUnits.add(processedUnit);
+            }
+        }
+        log.debug("Processed {} units in parallel with leaf size {}", input.length, leafSize);
+        return processedUnits;
+    }
+    
+    /**
+     * 按下标区间拆分的批处理任务
+     */
+    private static final class ProcessRangeTask extends RecursiveAction {
+        
+        private static final long serialVersionUID = 1L;
+        
+        private final transient UnitProcessorChain chain;
+        private final transient MetadataCollectionUnit[] input;
+        private final transient MetadataCollectionUnit[] output;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+        
+        ProcessRangeTask(UnitProcessorChain chain, MetadataCollectionUnit[] input, MetadataCollectionUnit[] output,
+                         int from, int to, int leafSize) {
+            this.chain = chain;
+            this.input = input;
+            this.output = output;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+        
+        @Override
+        protected void compute() {
+            if (to - from <= leafSize) {
+                for (int i = from; i < to; i++) {
+                    try {
+                        output[i] = chain.process(input[i]);
+                    } catch (Exception e) {
+                        log.error("Unit processing failed at index {}, using original unit: {}", i, e.getMessage(), e);
+                        output[i] = input[i];
+                    }
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ProcessRangeTask(chain, input, output, from, mid, leafSize),
+                    new ProcessRangeTask(chain, input, output, mid, to, leafSize));
+        }
+    }
+    
     /**
      * 移除处理器
      */
     public boolean removeProcessor(UnitProcessor processor) {
-        boolean removed = processors.remove(processor);
+        boolean removed = false;
+        synchronized (this) {
+            UnitProcessor[] current = plan.processors;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i].equals(processor)) {
+                    UnitProcessor[] next = new UnitProcessor[current.length - 1];
+                    System.arraycopy(current, 0, next, 0, i);
+                    System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+                    plan = ExecutionPlan.build(next);
+                    removed = true;
+                    break;
+                }
+            }
+        }
         if (removed) {
             log.info("Removed unit processor: {}", processor.getDescription());
         }
         return removed;
     }
     
+    /**
+     * 原子替换全部处理器（用于热更新）
+     * 
+     * @param processors 新的处理器集合
+     */
+    public void replaceProcessors(List<? extends UnitProcessor> processors) {
+        UnitProcessor[] next = processors == null ? EMPTY : processors.toArray(new UnitProcessor[0]);
+        for (UnitProcessor processor : next) {
+            if (processor == null) {
+                throw new IllegalArgumentException("Processor cannot be null");
+            }
+        }
+        Arrays.sort(next, BY_ORDER);
+        ExecutionPlan nextPlan = ExecutionPlan.build(next);
+        synchronized (this) {
+            plan = nextPlan;
+        }
+        log.info("Replaced unit processors, now {} registered", next.length);
+    }
+    
     /**
      * 获取已注册的处理器数量
      */
     public int getProcessorCount() {
-        return processors.size();
+        return plan.processors.length;
     }
     
     /**
      * 获取所有已注册的处理器
      */
     public List<UnitProcessor> getAllProcessors() {
-        ensureSorted();
-        return new ArrayList<>(processors);
+        return new ArrayList<>(Arrays.asList(plan.processors));
+    }
+    
+    /**
+     * 获取依赖图划分出的执行阶段，同一阶段内的处理器互不依赖
+     */
+    public List<List<UnitProcessor>> getExecutionStages() {
+        UnitProcessor[][] stages = plan.stages;
+        List<List<UnitProcessor>> result = new ArrayList<>(stages.length);
+        for (UnitProcessor[] stage : stages) {
+            result.add(Collections.unmodifiableList(Arrays.asList(stage)));
+        }
+        return result;
+    }
+    
+    /**
+     * 设置同阶段处理器并行执行使用的执行器
+     * 
+     * @param parallelExecutor 执行器，为null时始终顺序执行
+     */
+    public void setParallelExecutor(Executor parallelExecutor) {
+        this.parallelExecutor = parallelExecutor;
+    }
+    
+    /**
+     * 设置触发阶段内并行执行的最小字段数
+     */
+    public void setParallelFieldThreshold(int parallelFieldThreshold) {
+        this.parallelFieldThreshold = parallelFieldThreshold;
+    }
+    
+    /**
+     * 设置批量并行处理使用的ForkJoinPool
+     * 
+     * @param batchPool ForkJoinPool，为null时processAll始终顺序执行
+     */
+    public void setBatchPool(ForkJoinPool batchPool) {
+        this.batchPool = batchPool;
+    }
+    
+    /**
+     * 设置触发批量并行处理的最小单元数，低于该值时在调用线程上顺序执行
+     */
+    public void setParallelBatchThreshold(int parallelBatchThreshold) {
+        this.parallelBatchThreshold = parallelBatchThreshold;
     }
     
     /**
      * 清空所有处理器
      */
     public void clear() {
-        int count = processors.size();
-        processors.clear();
-        sorted = true;
+        int count;
+        synchronized (this) {
+            count = plan.processors.length;
+            plan = ExecutionPlan.EMPTY_PLAN;
+        }
         log.info("Cleared {} unit processors", count);
     }
     
     /**
-     * 确保处理器按优先级排序
+     * 处理器执行计划
+     * 根据读写键模式构建依赖关系：两个处理器之间存在写-读、读-写或写-写重叠，
+     * 或任一方未声明读写键时，优先级靠后的处理器依赖靠前的处理器。
+     * 每个处理器的阶段号为其所有依赖的最大阶段号加一，因此同一阶段内的处理器两两独立。
      */
-    private void ensureSorted() {
-        if (!sorted) {
-            synchronized (this) {
-                if (!sorted) {
-                    processors.sort(Comparator.comparingInt(UnitProcessor::getOrder));
-                    sorted = true;
-                    log.debug("Sorted {} processors by order", processors.size());
+    private static final class ExecutionPlan {
+        
+        static final ExecutionPlan EMPTY_PLAN = new ExecutionPlan(EMPTY, new UnitProcessor[0][]);
+        
+        final UnitProcessor[] processors;
+        final UnitProcessor[][] stages;
+        
+        private ExecutionPlan(UnitProcessor[] processors, UnitProcessor[][] stages) {
+            this.processors = processors;
+            this.stages = stages;
+        }
+        
+        boolean hasParallelStage() {
+            return stages.length < processors.length;
+        }
+        
+        static ExecutionPlan build(UnitProcessor[] sorted) {
+            int n = sorted.length;
+            if (n == 0) {
+                return EMPTY_PLAN;
+            }
+            
+            int[] level = new int[n];
+            int maxLevel = 0;
+            for (int j = 0; j < n; j++) {
+                for (int i = 0; i < j; i++) {
+                    if (level[i] + 1 > level[j] && dependsOn(sorted[j], sorted[i])) {
+                        level[j] = level[i] + 1;
+                    }
+                }
+                maxLevel = Math.max(maxLevel, level[j]);
+            }
+            
+            List<List<UnitProcessor>> grouped = new ArrayList<>(maxLevel + 1);
+            for (int l = 0; l <= maxLevel; l++) {
+                grouped.add(new ArrayList<>());
+            }
+            for (int j = 0; j < n; j++) {
+                grouped.get(level[j]).add(sorted[j]);
+            }
+            
+            UnitProcessor[][] stages = new UnitProcessor[grouped.size()][];
+            for (int l = 0; l < stages.length; l++) {
+                stages[l] = grouped.get(l).toArray(new UnitProcessor[0]);
+            }
+            return new ExecutionPlan(sorted, stages);
+        }
+        
+        private static boolean dependsOn(UnitProcessor later, UnitProcessor earlier) {
+            Set<String> laterReads = later.getConsumedKeyPatterns();
+            Set<String> laterWrites = later.getProducedKeyPatterns();
+            Set<String> earlierReads = earlier.getConsumedKeyPatterns();
+            Set<String> earlierWrites = earlier.getProducedKeyPatterns();
+            if (isUndeclared(laterReads, laterWrites) || isUndeclared(earlierReads, earlierWrites)) {
+                return true;
+            }
+            return overlaps(earlierWrites, laterReads)
+                    || overlaps(earlierReads, laterWrites)
+                    || overlaps(earlierWrites, laterWrites);
+        }
+        
+        private static boolean isUndeclared(Set<String> reads, Set<String> writes) {
+            return reads == null || writes == null || reads.isEmpty() || writes.isEmpty();
+        }
+        
+        private static boolean overlaps(Set<String> left, Set<String> right) {
+            for (String l : left) {
+                for (String r : right) {
+                    if (patternsOverlap(l, r)) {
+                        return true;
+                    }
                 }
             }
+            return false;
+        }
+        
+        /**
+         * 判断两个键模式是否可能匹配同一个键
+         * "a.b.*"匹配所有以"a.b."开头的键，"*"匹配所有键，其余为精确键
+         */
+        static boolean patternsOverlap(String left, String right) {
+            if ("*".equals(left) || "*".equals(right)) {
+                return true;
+            }
+            boolean leftPrefix = left.endsWith(".*");
+            boolean rightPrefix = right.endsWith(".*");
+            String l = leftPrefix ? left.substring(0, left.length() - 1) : left;
+            String r = rightPrefix ? right.substring(0, right.length() - 1) : right;
+            if (leftPrefix && rightPrefix) {
+                return l.startsWith(r) || r.startsWith(l);
+            }
+            if (leftPrefix) {
+                return r.startsWith(l);
+            }
+            if (rightPrefix) {
+                return l.startsWith(r);
+            }
+            return l.equals(r);
         }
     }
     
-}
\ No newline at end of file
+}
@@ -0,0 +1,204 @@
+package com.acme.core.metadata;
+
+import com.acme.core.metadata.collection.MetadataCollectionUnit;
+import com.acme.core.metadata.rule.ViolationRecorder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 验证报告
+ * 按监控单元汇总每个元数据键的验证结果，由返回CompletableFuture的异步验证接口产出
+ */
+public class ValidationReport {
+
+    private final int dtoCount;
+    private final MetadataGuard.Mode mode;
+    private final List<UnitResult> units;
+
+    private ValidationReport(int dtoCount, MetadataGuard.Mode mode, List<UnitResult> units) {
+        this.dtoCount = dtoCount;
+        this.mode = mode;
+        this.units = Collections.unmodifiableList(units);
+    }
+
+    public int getDtoCount() {
+        return dtoCount;
+    }
+
+    public MetadataGuard.Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * 各监控单元的验证结果，按验证顺序排列
+     */
+    public List<UnitResult> getUnits() {
+        return units;
+    }
+
+    /**
+     * 违规总数
+     */
+    public int getViolationCount() {
+        int count = 0;
+        for (UnitResult unit : units) {
+            count += unit.getViolationCount();
+        }
+        return count;
+    }
+
+    /**
+     * 是否没有任何违规
+     */
+    public boolean isClean() {
+        return getViolationCount() == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationReport{dtoCount=" + dtoCount + ", mode=" + mode
+                + ", units=" + units.size() + ", violations=" + getViolationCount() + '}';
+    }
+
+    /**
+     * 单个监控单元的验证结果
+     */
+    public static class UnitResult {
+
+        private final int index;
+        private final String userId;
+        private final String operateSystem;
+        private final String prodId;
+        private final Map<String, KeyResult> keys = new LinkedHashMap<>();
+
+        UnitResult(int index, MetadataCollectionUnit unit) {
+            this.index = index;
+            this.userId = unit.getUserId();
+            this.operateSystem = unit.getOperateSystem();
+            this.prodId = unit.getProdId();
+            for (String key : unit.getAllValidationData().keySet()) {
+                keys.put(key, new KeyResult(key));
+            }
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public String getUserId() {
+            return userId;
+        }
+
+        public String getOperateSystem() {
+            return operateSystem;
+        }
+
+        public String getProdId() {
+            return prodId;
+        }
+
+        /**
+         * 各元数据键的验证结果
+         */
+        public Map<String, KeyResult> getKeys() {
+            return Collections.unmodifiableMap(keys);
+        }
+
+        public KeyResult getKey(String key) {
+            return keys.get(key);
+        }
+
+        public int getViolationCount() {
+            int count = 0;
+            for (KeyResult key : keys.values()) {
+                count += key.messages.size();
+            }
+            return count;
+        }
+
+        public boolean isPassed() {
+            return getViolationCount() == 0;
+        }
+
+        void record(String key, String message) {
+            keys.computeIfAbsent(key, KeyResult::new).messages.add(message);
+        }
+
+        @Override
+        public String toString() {
+            return "UnitResult{index=" + index + ", userId=" + userId + ", prodId=" + prodId
+                    + ", violations=" + getViolationCount() + '}';
+        }
+    }
+
+    /**
+     * 单个元数据键的验证结果
+     */
+    public static class KeyResult {
+
+        private final String key;
+        private final List<String> messages = new ArrayList<>(1);
+
+        KeyResult(String key) {
+            this.key = key;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public boolean isPassed() {
+            return messages.isEmpty();
+        }
+
+        /**
+         * 违规信息，通过时为空
+         */
+        public List<String> getMessages() {
+            return Collections.unmodifiableList(messages);
+        }
+
+        @Override
+        public String toString() {
+            return key + (messages.isEmpty() ? "=passed" : "=" + messages);
+        }
+    }
+
+    /**
+     * 报告构建器，作为违规记录器绑定到执行验证的线程
+     */
+    static class Builder implements ViolationRecorder {
+
+        private final int dtoCount;
+        private final MetadataGuard.Mode mode;
+        private final List<UnitResult> units = new ArrayList<>();
+        private UnitResult current;
+
+        Builder(int dtoCount, MetadataGuard.Mode mode) {
+            this.dtoCount = dtoCount;
+            this.mode = mode;
+        }
+
+        @Override
+        public void beginUnit(MetadataCollectionUnit unit) {
+            current = new UnitResult(units.size(), unit);
+            units.add(current);
+        }
+
+        @Override
+        public void record(String key, String message) {
+            if (current == null) {
+                beginUnit(new MetadataCollectionUnit());
+            }
+            current.record(key, message);
+        }
+
+        ValidationReport build() {
+            return new ValidationReport(dtoCount, mode, units);
+        }
+    }
+}
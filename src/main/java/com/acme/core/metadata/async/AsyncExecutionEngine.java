@@ -0,0 +1,111 @@
+package com.acme.core.metadata.async;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 异步验证执行引擎
+ * 屏蔽线程池与环形缓冲区等不同的任务交接实现，队列满时由调用方决定降级策略
+ */
+public interface AsyncExecutionEngine {
+    
+    /**
+     * 尝试提交任务，不阻塞
+     * 
+     * @param task 待执行任务
+     * @return true表示已入队，false表示队列已满或引擎已关闭
+     */
+    boolean offer(Runnable task);
+    
+    /**
+     * 尝试向指定道提交任务，不阻塞
+     * 不分道的引擎忽略道键，等同于{@link #offer(Runnable)}
+     * 
+     * @param laneKey 道键，为null时使用默认道
+     * @param task 待执行任务
+     * @return true表示已入队，false表示该道已满或引擎已关闭
+     */
+    default boolean offer(String laneKey, Runnable task) {
+        return offer(task);
+    }
+    
+    /**
+     * 尝试以高优先级提交任务，不阻塞
+     * 不区分优先级的引擎等同于{@link #offer(Runnable)}
+     * 
+     * @param task 待执行任务，调用方在等待其结果
+     * @return true表示已入队，false表示优先队列已满或引擎已关闭
+     */
+    default boolean offerPriority(Runnable task) {
+        return offer(task);
+    }
+    
+    /**
+     * 移除并返回最早排队的任务，不阻塞
+     * 
+     * @return 最早排队的任务，队列为空时返回null
+     */
+    Runnable pollOldest();
+    
+    /**
+     * 移除并返回指定道中最早排队的任务，不阻塞
+     * 不分道的引擎忽略道键，等同于{@link #pollOldest()}
+     * 
+     * @return 最早排队的任务，队列为空时返回null
+     */
+    default Runnable pollOldest(String laneKey) {
+        return pollOldest();
+    }
+    
+    /**
+     * 当前排队的任务数
+     */
+    int queueSize();
+    
+    /**
+     * 指定道当前排队的任务数
+     * 不分道的引擎忽略道键，等同于{@link #queueSize()}
+     */
+    default int queueSize(String laneKey) {
+        return queueSize();
+    }
+    
+    /**
+     * 队列容量
+     */
+    int queueCapacity();
+    
+    /**
+     * 指定道的容量
+     * 不分道的引擎忽略道键，等同于{@link #queueCapacity()}
+     */
+    default int queueCapacity(String laneKey) {
+        return queueCapacity();
+    }
+    
+    /**
+     * 正在执行任务的工作线程数
+     */
+    int activeCount();
+    
+    /**
+     * 引擎名称，用于日志
+     */
+    String getName();
+    
+    /**
+     * 停止接收新任务，已入队的任务继续执行
+     */
+    void shutdown();
+    
+    /**
+     * 停止接收新任务并丢弃未执行的任务
+     */
+    void shutdownNow();
+    
+    /**
+     * 等待已入队任务执行完毕
+     * 
+     * @return true表示已全部结束，false表示超时
+     */
+    boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException;
+}
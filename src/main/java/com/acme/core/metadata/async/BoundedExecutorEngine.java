@@ -0,0 +1,97 @@
+package com.acme.core.metadata.async;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 为无界执行器增加容量上限的执行引擎基类
+ * ForkJoinPool和虚拟线程执行器本身不限制排队数量，这里以在途任务计数实现与线程池一致的队列满语义：
+ * 提交时占用名额，任务执行结束后才归还，排队和执行中的任务总数不超过容量；
+ * 这类执行器不支持移除已提交的任务，{@link #pollOldest()}始终返回null
+ */
+abstract class BoundedExecutorEngine implements AsyncExecutionEngine {
+    
+    private static final Logger log = LoggerFactory.getLogger(BoundedExecutorEngine.class);
+    
+    private final ExecutorService executor;
+    private final int capacity;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    
+    BoundedExecutorEngine(ExecutorService executor, int capacity) {
+        this.executor = executor;
+        this.capacity = capacity;
+    }
+    
+    @Override
+    public boolean offer(Runnable task) {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= capacity) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        
+        try {
+            executor.execute(() -> {
+                active.incrementAndGet();
+                try {
+                    task.run();
+                } catch (Throwable t) {
+                    log.error("Async task failed on {} engine: {}", getName(), t.getMessage(), t);
+                } finally {
+                    active.decrementAndGet();
+                    inFlight.decrementAndGet();
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.decrementAndGet();
+            return false;
+        }
+    }
+    
+    @Override
+    public Runnable pollOldest() {
+        return null;
+    }
+    
+    @Override
+    public int queueSize() {
+        return Math.max(0, inFlight.get() - active.get());
+    }
+    
+    /**
+     * 在途任务上限（排队加执行中）
+     */
+    @Override
+    public int queueCapacity() {
+        return capacity;
+    }
+    
+    @Override
+    public int activeCount() {
+        return active.get();
+    }
+    
+    @Override
+    public void shutdown() {
+        executor.shutdown();
+    }
+    
+    @Override
+    public void shutdownNow() {
+        executor.shutdownNow();
+    }
+    
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+}
@@ -0,0 +1,26 @@
+package com.acme.core.metadata.async;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * 基于工作窃取ForkJoinPool的执行引擎
+ * 使用FIFO异步模式，适合CPU密集的批量验证：空闲工作线程从其他线程的队列窃取任务，无共享队列锁；
+ * 在途上限为排队容量加并行度，即最多capacity个任务排队
+ */
+public class ForkJoinAsyncEngine extends BoundedExecutorEngine {
+    
+    public ForkJoinAsyncEngine(int parallelism, int capacity, String threadNamePrefix) {
+        super(new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(threadNamePrefix + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, true), capacity + parallelism);
+    }
+    
+    @Override
+    public String getName() {
+        return "fork-join";
+    }
+}
@@ -0,0 +1,422 @@
+package com.acme.core.metadata.async;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 分道隔离（舱壁）执行引擎
+ * <p>
+ * 按道键（如prodId）把任务放入各自的有界队列，所有道共享同一组工作线程，工作线程轮询各道取任务：
+ * 单个道积压只会占满自己的容量，不会挤占其他道的排队位置和执行机会。
+ * 道的数量有上限（不含默认道和溢出道），超出后的新道键统一归入{@link #OVERFLOW_LANE}，避免键基数失控。
+ * <p>
+ * 可选的优先道{@link #PRIORITY_LANE}独立于普通道计容量，按权重调度：每priorityWeight+1次取任务中
+ * 有priorityWeight次先取优先道，其余先取普通道，取不到时再取另一类，两类任务都不会被饿死。
+ * <p>
+ * 可用信号量的许可数始终等于排队任务总数，持有许可的工作线程一定能取到任务。
+ * 关闭后工作线程要等正在入队的生产者全部返回且队列取空才退出，已返回true的任务不会被遗留
+ */
+public class LaneAsyncEngine implements AsyncExecutionEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(LaneAsyncEngine.class);
+
+    /**
+     * 未指定道键时使用的默认道
+     */
+    public static final String DEFAULT_LANE = "default";
+
+    /**
+     * 道数量达到上限后新道键归入的溢出道
+     */
+    public static final String OVERFLOW_LANE = "other";
+
+    /**
+     * 优先道，通过{@link #offerPriority(Runnable)}提交
+     */
+    public static final String PRIORITY_LANE = "priority";
+
+    private static final long POLL_TIMEOUT_MILLIS = 50;
+
+    private final int laneCapacity;
+    private final int maxLanes;
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+    private volatile Lane[] laneOrder = new Lane[0];
+    private int keyedLanes;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final AtomicInteger ticks = new AtomicInteger();
+    private final Lane priorityLane;
+    private final int priorityWeight;
+
+    private final Semaphore queued = new Semaphore(0);
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger producers = new AtomicInteger();
+    private final CountDownLatch terminated;
+    private volatile boolean accepting = true;
+    private volatile boolean stopped;
+
+    public LaneAsyncEngine(int workers, int laneCapacity, int maxLanes, ThreadFactory threadFactory) {
+        this(workers, laneCapacity, maxLanes, 0, 1, threadFactory);
+    }
+
+    /**
+     * @param priorityCapacity 优先道容量，0表示不启用优先道
+     * @param priorityWeight 优先道调度权重，相对普通道整体的权重1
+     */
+    public LaneAsyncEngine(int workers, int laneCapacity, int maxLanes,
+                           int priorityCapacity, int priorityWeight, ThreadFactory threadFactory) {
+        if (workers <= 0 || laneCapacity <= 0 || maxLanes <= 0) {
+            throw new IllegalArgumentException("Workers, lane capacity and max lanes must be positive");
+        }
+        if (priorityCapacity < 0 || priorityWeight <= 0) {
+            throw new IllegalArgumentException("Priority capacity must not be negative and weight must be positive");
+        }
+        this.laneCapacity = laneCapacity;
+        this.maxLanes = maxLanes;
+        this.priorityLane = priorityCapacity > 0 ? new Lane(PRIORITY_LANE, priorityCapacity) : null;
+        this.priorityWeight = priorityWeight;
+        this.terminated = new CountDownLatch(workers);
+        for (int i = 0; i < workers; i++) {
+            threadFactory.newThread(this::runWorker).start();
+        }
+    }
+
+    @Override
+    public boolean offer(Runnable task) {
+        return offer(DEFAULT_LANE, task);
+    }
+
+    @Override
+    public boolean offer(String laneKey, Runnable task) {
+        producers.incrementAndGet();
+        try {
+            return accepting && enqueue(lane(laneKey), task);
+        } finally {
+            producers.decrementAndGet();
+        }
+    }
+
+    /**
+     * 提交到优先道，未启用优先道时进入默认道
+     */
+    @Override
+    public boolean offerPriority(Runnable task) {
+        producers.incrementAndGet();
+        try {
+            return accepting && enqueue(priorityLane != null ? priorityLane : lane(DEFAULT_LANE), task);
+        } finally {
+            producers.decrementAndGet();
+        }
+    }
+
+    private boolean enqueue(Lane lane, Runnable task) {
+        if (!lane.tryReserve()) {
+            lane.rejected.increment();
+            return false;
+        }
+        lane.queue.offer(task);
+        lane.accepted.increment();
+        queued.release();
+        return true;
+    }
+
+    @Override
+    public Runnable pollOldest() {
+        return pollOldest(DEFAULT_LANE);
+    }
+
+    /**
+     * 移除指定道中最早排队的任务
+     */
+    @Override
+    public Runnable pollOldest(String laneKey) {
+        Lane lane = existingLane(laneKey);
+        if (lane == null || !queued.tryAcquire()) {
+            return null;
+        }
+        Runnable task = lane.queue.poll();
+        if (task == null) {
+            queued.release();  // 该道已空，归还许可
+            return null;
+        }
+        lane.size.decrementAndGet();
+        lane.evicted.increment();
+        return task;
+    }
+
+    /**
+     * 查找道键对应的已有道，不创建新道；未创建的道键按溢出道处理
+     */
+    private Lane existingLane(String laneKey) {
+        Lane lane = lanes.get(laneKey != null ? laneKey : DEFAULT_LANE);
+        return lane != null ? lane : lanes.get(OVERFLOW_LANE);
+    }
+
+    private Lane lane(String laneKey) {
+        String key = laneKey != null ? laneKey : DEFAULT_LANE;
+        Lane lane = lanes.get(key);
+        if (lane != null) {
+            return lane;
+        }
+        synchronized (lanes) {
+            lane = lanes.get(key);
+            if (lane == null) {
+                boolean keyed = !DEFAULT_LANE.equals(key) && !OVERFLOW_LANE.equals(key);
+                if (keyed && keyedLanes >= maxLanes) {
+                    return lane(OVERFLOW_LANE);
+                }
+                if (keyed) {
+                    keyedLanes++;
+                }
+                lane = new Lane(key, laneCapacity);
+                lanes.put(key, lane);
+                List<Lane> order = new ArrayList<>(lanes.values());
+                laneOrder = order.toArray(new Lane[0]);
+                log.info("Created async lane: {} (capacity={})", key, laneCapacity);
+            }
+            return lane;
+        }
+    }
+
+    private void runWorker() {
+        try {
+            while (!stopped) {
+                if (!acquire()) {
+                    // 先登记再检查状态的生产者在退出登记前已释放许可，两者都为0时不会再有任务入队
+                    if (!accepting && producers.get() == 0 && queued.availablePermits() == 0) {
+                        break;  // 已关闭、没有进行中的入队且队列已空
+                    }
+                    continue;
+                }
+                Lane lane = null;
+                Runnable task = null;
+                while (task == null) {
+                    boolean preferPriority = priorityLane != null
+                            && Math.floorMod(ticks.getAndIncrement(), priorityWeight + 1) != priorityWeight;
+                    if (preferPriority && (task = priorityLane.queue.poll()) != null) {
+                        lane = priorityLane;
+                        break;
+                    }
+                    Lane[] order = laneOrder;
+                    int start = cursor.getAndIncrement();
+                    for (int i = 0; i < order.length && task == null; i++) {
+                        lane = order[Math.floorMod(start + i, order.length)];
+                        task = lane.queue.poll();
+                    }
+                    if (task == null && priorityLane != null && !preferPriority
+                            && (task = priorityLane.queue.poll()) != null) {
+                        lane = priorityLane;
+                    }
+                }
+                lane.size.decrementAndGet();
+                active.incrementAndGet();
+                try {
+                    task.run();
+                } catch (Throwable t) {
+                    log.error("Async task failed in lane {}: {}", lane.key, t.getMessage(), t);
+                } finally {
+                    active.decrementAndGet();
+                    lane.completed.increment();
+                }
+            }
+        } finally {
+            terminated.countDown();
+        }
+    }
+
+    private boolean acquire() {
+        try {
+            return queued.tryAcquire(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ignored) {
+            // 工作线程由引擎管理，退出只由关闭状态控制
+            return false;
+        }
+    }
+
+    /**
+     * 各道的实时统计
+     */
+    public List<LaneStats> getLaneStats() {
+        List<LaneStats> stats = new ArrayList<>();
+        if (priorityLane != null) {
+            stats.add(priorityLane.stats());
+        }
+        for (Lane lane : laneOrder) {
+            stats.add(lane.stats());
+        }
+        return Collections.unmodifiableList(stats);
+    }
+
+    @Override
+    public int queueSize() {
+        int total = priorityLane != null ? priorityLane.size.get() : 0;
+        for (Lane lane : laneOrder) {
+            total += lane.size.get();
+        }
+        return total;
+    }
+
+    /**
+     * 指定道当前排队的任务数，道尚未创建时为0
+     */
+    @Override
+    public int queueSize(String laneKey) {
+        Lane lane = existingLane(laneKey);
+        return lane != null ? lane.size.get() : 0;
+    }
+
+    /**
+     * 总容量为单道容量乘以道数上限（含默认道和溢出道）再加优先道容量
+     */
+    @Override
+    public int queueCapacity() {
+        return laneCapacity * (maxLanes + 2) + (priorityLane != null ? priorityLane.capacity : 0);
+    }
+
+    /**
+     * 普通道容量都相同，与道键无关
+     */
+    @Override
+    public int queueCapacity(String laneKey) {
+        return laneCapacity;
+    }
+
+    @Override
+    public int activeCount() {
+        return active.get();
+    }
+
+    @Override
+    public String getName() {
+        return "lanes";
+    }
+
+    @Override
+    public void shutdown() {
+        accepting = false;
+    }
+
+    @Override
+    public void shutdownNow() {
+        accepting = false;
+        stopped = true;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+
+    /**
+     * 单个道：有界队列和计数
+     */
+    private static final class Lane {
+        final String key;
+        final int capacity;
+        final ConcurrentLinkedQueue<Runnable> queue = new ConcurrentLinkedQueue<>();
+        final AtomicInteger size = new AtomicInteger();
+        final LongAdder accepted = new LongAdder();
+        final LongAdder rejected = new LongAdder();
+        final LongAdder evicted = new LongAdder();
+        final LongAdder completed = new LongAdder();
+
+        Lane(String key, int capacity) {
+            this.key = key;
+            this.capacity = capacity;
+        }
+
+        boolean tryReserve() {
+            int current;
+            do {
+                current = size.get();
+                if (current >= capacity) {
+                    return false;
+                }
+            } while (!size.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        LaneStats stats() {
+            return new LaneStats(key, size.get(), capacity, accepted.sum(),
+                    rejected.sum(), evicted.sum(), completed.sum());
+        }
+    }
+
+    /**
+     * 道统计快照
+     */
+    public static final class LaneStats {
+        private final String key;
+        private final int queueSize;
+        private final int capacity;
+        private final long accepted;
+        private final long rejected;
+        private final long evicted;
+        private final long completed;
+
+        LaneStats(String key, int queueSize, int capacity, long accepted, long rejected, long evicted, long completed) {
+            this.key = key;
+            this.queueSize = queueSize;
+            this.capacity = capacity;
+            this.accepted = accepted;
+            this.rejected = rejected;
+            this.evicted = evicted;
+            this.completed = completed;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public int getQueueSize() {
+            return queueSize;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        /**
+         * 入队成功次数
+         */
+        public long getAccepted() {
+            return accepted;
+        }
+
+        /**
+         * 道已满被拒绝的次数
+         */
+        public long getRejected() {
+            return rejected;
+        }
+
+        /**
+         * 为新任务腾位置被移除的次数
+         */
+        public long getEvicted() {
+            return evicted;
+        }
+
+        public long getCompleted() {
+            return completed;
+        }
+
+        @Override
+        public String toString() {
+            return key + "{queue=" + queueSize + "/" + capacity + ", accepted=" + accepted
+                    + ", rejected=" + rejected + ", evicted=" + evicted + ", completed=" + completed + '}';
+        }
+    }
+}
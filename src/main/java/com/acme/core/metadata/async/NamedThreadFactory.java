@@ -0,0 +1,24 @@
+package com.acme.core.metadata.async;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 按前缀编号命名的守护线程工厂
+ */
+public class NamedThreadFactory implements ThreadFactory {
+    
+    private final String prefix;
+    private final AtomicInteger counter = new AtomicInteger();
+    
+    public NamedThreadFactory(String prefix) {
+        this.prefix = prefix;
+    }
+    
+    @Override
+    public Thread newThread(Runnable r) {
+        Thread thread = new Thread(r, prefix + counter.incrementAndGet());
+        thread.setDaemon(true);  // 设置为守护线程
+        return thread;
+    }
+}
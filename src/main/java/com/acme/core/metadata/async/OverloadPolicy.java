@@ -0,0 +1,29 @@
+package com.acme.core.metadata.async;
+
+/**
+ * 异步队列过载策略
+ * 只作用于MONITOR模式的异步卸载，带回调的显式异步验证始终由调用者线程兜底执行
+ */
+public enum OverloadPolicy {
+    
+    /**
+     * 队列满时由调用者线程同步执行（默认，与原CallerRunsPolicy一致）
+     */
+    CALLER_RUNS,
+    
+    /**
+     * 队列满时丢弃新任务
+     */
+    DROP_NEWEST,
+    
+    /**
+     * 队列满时丢弃最早排队的任务，为新任务腾出位置
+     * 最早排队的是共用队列的显式异步任务时不丢弃，改由调用者线程执行
+     */
+    DROP_OLDEST,
+    
+    /**
+     * 队列压力超过阈值后按比例抽样入队，压力越大丢弃越多，队列满时丢弃新任务
+     */
+    SAMPLE
+}
@@ -0,0 +1,25 @@
+package com.acme.core.metadata.async;
+
+/**
+ * 可在运行时调整工作线程数的执行引擎
+ */
+public interface ResizableAsyncEngine extends AsyncExecutionEngine {
+    
+    /**
+     * 常驻工作线程数
+     */
+    int getCorePoolSize();
+    
+    /**
+     * 工作线程数上限
+     */
+    int getMaxPoolSize();
+    
+    /**
+     * 调整工作线程数，立即生效，多余的空闲线程在空闲超时后退出
+     * 
+     * @param corePoolSize 常驻工作线程数，不小于1
+     * @param maxPoolSize 工作线程数上限，不小于corePoolSize
+     */
+    void resize(int corePoolSize, int maxPoolSize);
+}
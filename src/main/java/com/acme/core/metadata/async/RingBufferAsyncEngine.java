@@ -0,0 +1,303 @@
+package com.acme.core.metadata.async;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 基于预分配环形缓冲区的执行引擎
+ * <p>
+ * 多生产者多消费者有界队列（每个槽位带序号）：
+ * <ul>
+ *   <li>入队只有一次CAS，不加锁，不为任务分配包装对象</li>
+ *   <li>消费者一次CAS认领连续的多个槽位，每次唤醒批量执行</li>
+ *   <li>空闲等待方式由{@link WaitStrategy}决定，只有BLOCKING策略在慢路径上使用锁</li>
+ * </ul>
+ * 容量向上取整为2的幂，工作线程数固定。
+ * 关闭后工作线程要等正在入队的生产者全部返回且队列取空才退出，已返回true的任务不会被遗留
+ */
+public class RingBufferAsyncEngine implements AsyncExecutionEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(RingBufferAsyncEngine.class);
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 200;
+    private static final long SLEEP_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long BLOCKING_TIMEOUT_MILLIS = 50;
+
+    private static final int RUNNING = 0;
+    private static final int SHUTDOWN = 1;
+    private static final int STOP = 2;
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final AtomicReferenceArray<Runnable> slots;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    private final int batchSize;
+    private final WaitStrategy waitStrategy;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final AtomicInteger sleepers = new AtomicInteger();
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger producers = new AtomicInteger();
+    private final CountDownLatch terminated;
+    private volatile int state = RUNNING;
+
+    public RingBufferAsyncEngine(int capacity, int workers, int batchSize,
+                                 WaitStrategy waitStrategy, ThreadFactory threadFactory) {
+        if (workers <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("Workers and batch size must be positive");
+        }
+        this.capacity = roundUpToPowerOfTwo(Math.max(2, capacity));
+        this.mask = this.capacity - 1;
+        this.sequences = new AtomicLongArray(this.capacity);
+        this.slots = new AtomicReferenceArray<>(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.batchSize = batchSize;
+        this.waitStrategy = waitStrategy != null ? waitStrategy : WaitStrategy.BLOCKING;
+        this.terminated = new CountDownLatch(workers);
+        for (int i = 0; i < workers; i++) {
+            threadFactory.newThread(this::runWorker).start();
+        }
+    }
+
+    @Override
+    public boolean offer(Runnable task) {
+        // 先登记再检查状态：工作线程看到关闭状态时，通过检查的生产者要么仍在登记中，要么已发布任务
+        producers.incrementAndGet();
+        try {
+            if (state != RUNNING || !publish(task)) {
+                return false;
+            }
+        } finally {
+            producers.decrementAndGet();
+        }
+        if (waitStrategy == WaitStrategy.BLOCKING && sleepers.get() > 0) {
+            lock.lock();
+            try {
+                notEmpty.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+        return true;
+    }
+
+    private boolean publish(Runnable task) {
+        long pos = tail.get();
+        while (true) {
+            int index = (int) (pos & mask);
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    slots.set(index, task);
+                    sequences.set(index, pos + 1);  // 发布
+                    break;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                return false;  // 槽位尚未被消费，队列已满
+            } else {
+                pos = tail.get();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 认领并取出一批连续的已发布任务
+     *
+     * @return 取出的任务数
+     */
+    private int drain(Runnable[] batch) {
+        while (true) {
+            long pos = head.get();
+            int n = 0;
+            while (n < batch.length && sequences.get((int) ((pos + n) & mask)) == pos + n + 1) {
+                n++;
+            }
+            if (n == 0) {
+                return 0;
+            }
+            if (head.compareAndSet(pos, pos + n)) {
+                for (int i = 0; i < n; i++) {
+                    int index = (int) ((pos + i) & mask);
+                    batch[i] = slots.get(index);
+                    slots.set(index, null);
+                    sequences.set(index, pos + i + capacity);  // 归还给生产者
+                }
+                return n;
+            }
+        }
+    }
+
+    @Override
+    public Runnable pollOldest() {
+        while (true) {
+            long pos = head.get();
+            int index = (int) (pos & mask);
+            if (sequences.get(index) != pos + 1) {
+                return null;
+            }
+            if (head.compareAndSet(pos, pos + 1)) {
+                Runnable task = slots.get(index);
+                slots.set(index, null);
+                sequences.set(index, pos + capacity);
+                return task;
+            }
+        }
+    }
+
+    private void runWorker() {
+        Runnable[] batch = new Runnable[batchSize];
+        int idle = 0;
+        try {
+            while (state != STOP) {
+                int n = drain(batch);
+                if (n > 0) {
+                    idle = 0;
+                    active.incrementAndGet();
+                    try {
+                        for (int i = 0; i < n; i++) {
+                            runSafely(batch[i]);
+                            batch[i] = null;
+                        }
+                    } finally {
+                        active.decrementAndGet();
+                    }
+                    continue;
+                }
+                if (state != RUNNING) {
+                    if (producers.get() == 0 && isEmpty()) {
+                        break;  // 已关闭、没有进行中的入队且队列已空
+                    }
+                    Thread.yield();
+                    continue;
+                }
+                idle = awaitWork(idle);
+            }
+        } finally {
+            terminated.countDown();
+        }
+    }
+
+    private static void runSafely(Runnable task) {
+        try {
+            task.run();
+        } catch (Throwable t) {
+            log.error("Async task failed on ring buffer worker: {}", t.getMessage(), t);
+        }
+    }
+
+    private int awaitWork(int idle) {
+        switch (waitStrategy) {
+            case BUSY_SPIN:
+                return idle;
+            case YIELDING:
+                if (idle >= SPIN_TRIES) {
+                    Thread.yield();
+                }
+                return idle + 1;
+            case SLEEPING:
+                if (idle >= YIELD_TRIES) {
+                    LockSupport.parkNanos(SLEEP_NANOS);
+                } else if (idle >= SPIN_TRIES) {
+                    Thread.yield();
+                }
+                return idle + 1;
+            case BLOCKING:
+            default:
+                if (idle < SPIN_TRIES) {
+                    return idle + 1;
+                }
+                lock.lock();
+                try {
+                    sleepers.incrementAndGet();
+                    if (isEmpty() && state == RUNNING) {
+                        notEmpty.await(BLOCKING_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                    }
+                } catch (InterruptedException ignored) {
+                    // 工作线程由引擎管理，退出只由state控制
+                } finally {
+                    sleepers.decrementAndGet();
+                    lock.unlock();
+                }
+                return 0;
+        }
+    }
+
+    private boolean isEmpty() {
+        long pos = head.get();
+        return sequences.get((int) (pos & mask)) != pos + 1;
+    }
+
+    private void wakeAll() {
+        lock.lock();
+        try {
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int queueSize() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    @Override
+    public int queueCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public int activeCount() {
+        return active.get();
+    }
+
+    @Override
+    public String getName() {
+        return "ring-buffer";
+    }
+
+    @Override
+    public void shutdown() {
+        if (state == RUNNING) {
+            state = SHUTDOWN;
+        }
+        wakeAll();
+    }
+
+    @Override
+    public void shutdownNow() {
+        state = STOP;
+        wakeAll();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+
+    private static int roundUpToPowerOfTwo(int value) {
+        int highest = Integer.highestOneBit(value);
+        return highest == value ? value : highest << 1;
+    }
+}
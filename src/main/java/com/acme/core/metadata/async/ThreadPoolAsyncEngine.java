@@ -0,0 +1,108 @@
+package com.acme.core.metadata.async;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基于ThreadPoolExecutor的执行引擎（默认）
+ * 使用execute直接提交，不再为每个任务创建FutureTask；线程数可在运行时调整
+ */
+public class ThreadPoolAsyncEngine implements ResizableAsyncEngine {
+    
+    private final ThreadPoolExecutor executor;
+    private final int capacity;
+    
+    public ThreadPoolAsyncEngine(int corePoolSize, int maxPoolSize, int keepAliveSeconds,
+                                 int queueCapacity, ThreadFactory threadFactory) {
+        this.capacity = queueCapacity;
+        this.executor = new ThreadPoolExecutor(
+            corePoolSize,
+            maxPoolSize,
+            keepAliveSeconds,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(queueCapacity),
+            threadFactory,
+            new ThreadPoolExecutor.AbortPolicy()  // 队列满时由调用方降级
+        );
+    }
+    
+    @Override
+    public boolean offer(Runnable task) {
+        try {
+            executor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+    
+    @Override
+    public Runnable pollOldest() {
+        return executor.getQueue().poll();
+    }
+    
+    @Override
+    public int queueSize() {
+        return executor.getQueue().size();
+    }
+    
+    @Override
+    public int queueCapacity() {
+        return capacity;
+    }
+    
+    @Override
+    public int activeCount() {
+        return executor.getActiveCount();
+    }
+    
+    @Override
+    public int getCorePoolSize() {
+        return executor.getCorePoolSize();
+    }
+    
+    @Override
+    public int getMaxPoolSize() {
+        return executor.getMaximumPoolSize();
+    }
+    
+    /**
+     * 按新旧大小关系决定设置顺序，任何时刻都满足core不大于max
+     */
+    @Override
+    public synchronized void resize(int corePoolSize, int maxPoolSize) {
+        if (corePoolSize <= 0 || maxPoolSize < corePoolSize) {
+            throw new IllegalArgumentException("Invalid pool size: core=" + corePoolSize + ", max=" + maxPoolSize);
+        }
+        if (maxPoolSize >= executor.getCorePoolSize()) {
+            executor.setMaximumPoolSize(maxPoolSize);
+            executor.setCorePoolSize(corePoolSize);
+        } else {
+            executor.setCorePoolSize(corePoolSize);
+            executor.setMaximumPoolSize(maxPoolSize);
+        }
+    }
+    
+    @Override
+    public String getName() {
+        return "thread-pool";
+    }
+    
+    @Override
+    public void shutdown() {
+        executor.shutdown();
+    }
+    
+    @Override
+    public void shutdownNow() {
+        executor.shutdownNow();
+    }
+    
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+}
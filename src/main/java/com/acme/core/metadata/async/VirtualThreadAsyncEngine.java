@@ -0,0 +1,48 @@
+package com.acme.core.metadata.async;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 每任务一个虚拟线程的执行引擎（需要Java 21及以上运行时）
+ * 项目以Java 8编译，通过反射创建虚拟线程执行器，低版本运行时调用{@link #isSupported()}返回false；
+ * 虚拟线程不排队，容量限制的是在途任务总数
+ */
+public class VirtualThreadAsyncEngine extends BoundedExecutorEngine {
+    
+    public VirtualThreadAsyncEngine(int capacity, String threadNamePrefix) {
+        super(newVirtualThreadExecutor(threadNamePrefix), capacity);
+    }
+    
+    /**
+     * 当前运行时是否支持虚拟线程
+     */
+    public static boolean isSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+    
+    private static ExecutorService newVirtualThreadExecutor(String threadNamePrefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, threadNamePrefix, 1L);
+            ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            Method newExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) newExecutor.invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads require a Java 21+ runtime", e);
+        }
+    }
+    
+    @Override
+    public String getName() {
+        return "virtual-thread";
+    }
+}
@@ -0,0 +1,27 @@
+package com.acme.core.metadata.async;
+
+/**
+ * 环形缓冲区消费者空闲等待策略
+ */
+public enum WaitStrategy {
+    
+    /**
+     * 忙等，延迟最低，空闲时占满CPU
+     */
+    BUSY_SPIN,
+    
+    /**
+     * 自旋后让出CPU
+     */
+    YIELDING,
+    
+    /**
+     * 自旋、让出后短暂休眠，空闲开销低
+     */
+    SLEEPING,
+    
+    /**
+     * 空闲时挂起，生产者入队后唤醒，适合流量不均匀的场景（默认）
+     */
+    BLOCKING
+}
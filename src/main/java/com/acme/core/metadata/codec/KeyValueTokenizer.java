@@ -0,0 +1,190 @@
+package com.acme.core.metadata.codec;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 键值对字符串解码器
+ * 支持{k=v,k=v}及类似编码（外层花括号可选，分隔符可配置），对CharSequence只做一次扫描：
+ * <ul>
+ *   <li>输出全部键值对，不再只识别预先约定的键</li>
+ *   <li>整数值在原始序列上原地解析，不创建子串</li>
+ *   <li>值中嵌套的{}、[]、()内的分隔符不会被拆分，例如factors=[income,asset]</li>
+ * </ul>
+ * 实例无状态，可在多线程间共享
+ */
+public final class KeyValueTokenizer {
+    
+    /**
+     * 默认格式：逗号分隔键值对，等号分隔键和值
+     */
+    public static final KeyValueTokenizer DEFAULT = new KeyValueTokenizer(',', '=');
+    
+    private final char pairSeparator;
+    private final char keyValueSeparator;
+    
+    public KeyValueTokenizer(char pairSeparator, char keyValueSeparator) {
+        if (pairSeparator == keyValueSeparator) {
+            throw new IllegalArgumentException("Pair separator and key-value separator must differ");
+        }
+        this.pairSeparator = pairSeparator;
+        this.keyValueSeparator = keyValueSeparator;
+    }
+    
+    /**
+     * 扫描字符序列，逐个回调键值对
+     * 没有键值分隔符或键为空的片段会被跳过
+     * 
+     * @param input 编码后的字符序列
+     * @param visitor 键值对访问器
+     */
+    public void tokenize(CharSequence input, KeyValueVisitor visitor) {
+        if (input == null) {
+            return;
+        }
+        
+        int start = 0;
+        int end = input.length();
+        while (start < end && Character.isWhitespace(input.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(input.charAt(end - 1))) {
+            end--;
+        }
+        if (end - start >= 2 && input.charAt(start) == '{' && input.charAt(end - 1) == '}') {
+            start++;
+            end--;
+        }
+        
+        int segmentStart = start;
+        int separatorPos = -1;
+        int depth = 0;
+        for (int i = start; i <= end; i++) {
+            if (i < end) {
+                char c = input.charAt(i);
+                if (c == '{' || c == '[' || c == '(') {
+                    depth++;
+                    continue;
+                }
+                if (c == '}' || c == ']' || c == ')') {
+                    if (depth > 0) {
+                        depth--;
+                    }
+                    continue;
+                }
+                if (depth > 0) {
+                    continue;
+                }
+                if (c == keyValueSeparator && separatorPos < 0) {
+                    separatorPos = i;
+                    continue;
+                }
+                if (c != pairSeparator) {
+                    continue;
+                }
+            }
+            if (separatorPos >= 0) {
+                emit(input, segmentStart, separatorPos, i, visitor);
+            }
+            segmentStart = i + 1;
+            separatorPos = -1;
+        }
+    }
+    
+    /**
+     * 解码为Map
+     * 整数值在int范围内时为Integer，否则为Long；其余值为String
+     * 
+     * @param input 编码后的字符序列
+     * @return 全部键值对
+     */
+    public Map<String, Object> toMap(CharSequence input) {
+        Map<String, Object> result = new HashMap<>();
+        decodeInto(input, result);
+        return result;
+    }
+    
+    /**
+     * 解码并写入目标Map，值类型规则同{@link #toMap(CharSequence)}
+     * 
+     * @param input 编码后的字符序列
+     * @param target 目标Map
+     */
+    public void decodeInto(CharSequence input, Map<String, Object> target) {
+        tokenize(input, new KeyValueVisitor() {
+            @Override
+            public void onNumber(String key, long value) {
+                if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                    target.put(key, (int) value);
+                } else {
+                    target.put(key, value);
+                }
+            }
+            
+            @Override
+            public void onText(String key, CharSequence source, int start, int end) {
+                target.put(key, source.subSequence(start, end).toString());
+            }
+        });
+    }
+    
+    private void emit(CharSequence input, int segmentStart, int separatorPos, int segmentEnd, KeyValueVisitor visitor) {
+        int keyStart = segmentStart;
+        int keyEnd = separatorPos;
+        while (keyStart < keyEnd && Character.isWhitespace(input.charAt(keyStart))) {
+            keyStart++;
+        }
+        while (keyEnd > keyStart && Character.isWhitespace(input.charAt(keyEnd - 1))) {
+            keyEnd--;
+        }
+        if (keyStart == keyEnd) {
+            return;
+        }
+        
+        int valueStart = separatorPos + 1;
+        int valueEnd = segmentEnd;
+        while (valueStart < valueEnd && Character.isWhitespace(input.charAt(valueStart))) {
+            valueStart++;
+        }
+        while (valueEnd > valueStart && Character.isWhitespace(input.charAt(valueEnd - 1))) {
+            valueEnd--;
+        }
+        
+        String key = input.subSequence(keyStart, keyEnd).toString();
+        
+        // 原地解析整数：按负数累加以覆盖Long.MIN_VALUE，溢出或出现非数字字符时按文本处理
+        boolean numeric = valueEnd > valueStart;
+        boolean negative = false;
+        int i = valueStart;
+        if (numeric) {
+            char first = input.charAt(i);
+            if (first == '-' || first == '+') {
+                negative = first == '-';
+                i++;
+                numeric = i < valueEnd;
+            }
+        }
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyMin = limit / 10;
+        long value = 0;
+        for (; numeric && i < valueEnd; i++) {
+            int digit = input.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || value < multiplyMin) {
+                numeric = false;
+                break;
+            }
+            value *= 10;
+            if (value < limit + digit) {
+                numeric = false;
+                break;
+            }
+            value -= digit;
+        }
+        
+        if (numeric) {
+            visitor.onNumber(key, negative ? value : -value);
+        } else {
+            visitor.onText(key, input, valueStart, valueEnd);
+        }
+    }
+}
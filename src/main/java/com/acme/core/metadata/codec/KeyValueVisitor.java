@@ -0,0 +1,26 @@
+package com.acme.core.metadata.codec;
+
+/**
+ * 键值对访问器
+ * 由{@link KeyValueTokenizer}在单次扫描中逐个回调，调用方自行决定如何物化值
+ */
+public interface KeyValueVisitor {
+    
+    /**
+     * 整数值回调（已在原始字符序列上原地解析，不创建子串）
+     * 
+     * @param key 键
+     * @param value 解析后的整数值
+     */
+    void onNumber(String key, long value);
+    
+    /**
+     * 非整数值回调
+     * 
+     * @param key 键
+     * @param source 原始字符序列
+     * @param start 值起始下标（包含，已去除首尾空白）
+     * @param end 值结束下标（不包含）
+     */
+    void onText(String key, CharSequence source, int start, int end);
+}
@@ -0,0 +1,229 @@
+package com.acme.core.metadata.codec;
+
+import com.acme.core.metadata.MetadataGuard;
+import com.acme.core.metadata.collection.MetadataCollectionUnit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 监控单元二进制编解码器
+ * 紧凑的带类型标签格式，用于把转换后的单元落盘后再还原：
+ * <ul>
+ *   <li>字符串为4字节长度（-1表示null）加UTF-8字节</li>
+ *   <li>整数、长整数、浮点、布尔按原类型保存，BigDecimal/BigInteger按十进制文本保存</li>
+ *   <li>Map和Collection/数组递归编码，还原为LinkedHashMap和ArrayList</li>
+ *   <li>其他类型按String.valueOf保存为字符串</li>
+ * </ul>
+ * 实例无状态，可在多线程间共享
+ */
+public final class UnitBinaryCodec {
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INT = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte BOOLEAN = 5;
+    private static final byte DECIMAL = 6;
+    private static final byte BIG_INTEGER = 7;
+    private static final byte MAP = 8;
+    private static final byte LIST = 9;
+
+    private static final int MAX_DEPTH = 64;
+
+    private UnitBinaryCodec() {
+    }
+
+    /**
+     * 编码一批监控单元
+     */
+    public static byte[] encode(List<MetadataCollectionUnit> units) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeInt(units.size());
+            for (MetadataCollectionUnit unit : units) {
+                writeString(out, unit.getUserId());
+                writeString(out, unit.getOperateSystem());
+                writeString(out, unit.getProdId());
+                out.writeByte(unit.getMode() != null ? unit.getMode().ordinal() : -1);
+                Map<String, Object> fields = unit.getMetadataFields();
+                out.writeInt(fields.size());
+                for (Map.Entry<String, Object> field : fields.entrySet()) {
+                    writeString(out, field.getKey());
+                    writeValue(out, field.getValue(), 0);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Unit encoding failed: " + e.getMessage(), e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 从缓冲区当前位置解码一批监控单元
+     *
+     * @throws IllegalArgumentException 数据截断或包含未知类型标签
+     */
+    public static List<MetadataCollectionUnit> decode(ByteBuffer in) {
+        try {
+            int count = in.getInt();
+            List<MetadataCollectionUnit> units = new ArrayList<>(Math.max(0, count));
+            for (int i = 0; i < count; i++) {
+                MetadataCollectionUnit unit = new MetadataCollectionUnit(readString(in), readString(in), readString(in));
+                byte mode = in.get();
+                if (mode >= 0) {
+                    unit.setMode(MetadataGuard.Mode.values()[mode]);
+                }
+                int fieldCount = in.getInt();
+                for (int f = 0; f < fieldCount; f++) {
+                    unit.addMetadataField(readString(in), readValue(in, 0));
+                }
+                units.add(unit);
+            }
+            return units;
+        } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated or corrupt unit data at offset " + in.position(), e);
+        }
+    }
+
+    private static void writeValue(DataOutputStream out, Object value, int depth) throws IOException {
+        if (depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("Value nesting exceeds " + MAX_DEPTH);
+        }
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeString(out, (String) value);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            out.writeByte(INT);
+            out.writeInt(((Number) value).intValue());
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Double || value instanceof Float) {
+            out.writeByte(DOUBLE);
+            out.writeDouble(((Number) value).doubleValue());
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof BigDecimal) {
+            out.writeByte(DECIMAL);
+            writeString(out, value.toString());
+        } else if (value instanceof BigInteger) {
+            out.writeByte(BIG_INTEGER);
+            writeString(out, value.toString());
+        } else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            out.writeByte(MAP);
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeString(out, String.valueOf(entry.getKey()));
+                writeValue(out, entry.getValue(), depth + 1);
+            }
+        } else if (value instanceof Collection) {
+            Collection<?> list = (Collection<?>) value;
+            out.writeByte(LIST);
+            out.writeInt(list.size());
+            for (Object element : list) {
+                writeValue(out, element, depth + 1);
+            }
+        } else if (value instanceof Object[]) {
+            Object[] array = (Object[]) value;
+            out.writeByte(LIST);
+            out.writeInt(array.length);
+            for (Object element : array) {
+                writeValue(out, element, depth + 1);
+            }
+        } else {
+            out.writeByte(STRING);
+            writeString(out, String.valueOf(value));
+        }
+    }
+
+    private static Object readValue(ByteBuffer in, int depth) {
+        if (depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("Value nesting exceeds " + MAX_DEPTH);
+        }
+        byte tag = in.get();
+        switch (tag) {
+            case NULL:
+                return null;
+            case STRING:
+                return readString(in);
+            case INT:
+                return in.getInt();
+            case LONG:
+                return in.getLong();
+            case DOUBLE:
+                return in.getDouble();
+            case BOOLEAN:
+                return in.get() != 0;
+            case DECIMAL:
+                return new BigDecimal(readString(in));
+            case BIG_INTEGER:
+                return new BigInteger(readString(in));
+            case MAP: {
+                int size = in.getInt();
+                Map<String, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    map.put(readString(in), readValue(in, depth + 1));
+                }
+                return map;
+            }
+            case LIST: {
+                int size = in.getInt();
+                List<Object> list = new ArrayList<>(Math.min(size, 1024));
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in, depth + 1));
+                }
+                return list;
+            }
+            default:
+                throw new IllegalArgumentException("Unknown value tag " + tag + " at offset " + (in.position() - 1));
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > in.remaining()) {
+            throw new IllegalArgumentException("String length " + length + " exceeds remaining data at offset " + in.position());
+        }
+        String value;
+        if (in.hasArray()) {
+            value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            in.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+}
@@ -5,6 +5,7 @@ import com.acme.core.metadata.MetadataGuard;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 
 /**
  * 元数据采集单元
@@ -26,6 +27,7 @@ public class MetadataCollectionUnit {
     }
 
     public MetadataCollectionUnit(MetadataGuard.Mode mode) {
+        this();
         this.mode = mode;
     }
     
@@ -104,6 +106,27 @@ public class MetadataCollectionUnit {
     public Map<String, Object> getMetadataFields() {
         return new HashMap<>(metadataFields);
     }
+    
+    /**
+     * 按键读取单个动态字段（不复制字段）
+     */
+    public Object getMetadataField(String key) {
+        return metadataFields.get(key);
+    }
+    
+    /**
+     * 遍历动态字段（不复制字段），遍历期间不能修改本单元
+     */
+    public void forEachMetadataField(BiConsumer<String, Object> action) {
+        metadataFields.forEach(action);
+    }
+    
+    /**
+     * 获取动态字段数量（不复制字段）
+     */
+    public int getMetadataFieldCount() {
+        return metadataFields.size();
+    }
 
     public MetadataGuard.Mode getMode() {
         return mode;
@@ -0,0 +1,87 @@
+package com.acme.core.metadata.extension;
+
+import com.acme.core.metadata.model.MetaDefinition;
+import com.acme.core.metadata.registry.MetadataRegistryService;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 内置硬编码数据提取器
+ * 按映射配置中预编译的表达式取值，未单独注册提取器的数据类型默认使用。
+ * 配置了分隔符且原始数据为CharSequence、byte[]或ByteBuffer时，先建立分隔符索引再按列取值，
+ * 关联注册中心后只为注册中心定义的字段创建字符串
+ */
+public class CompiledMappingExtractor implements HardcodedDataExtractor {
+    
+    private final MetadataRegistryService registry;
+    
+    public CompiledMappingExtractor() {
+        this(null);
+    }
+    
+    public CompiledMappingExtractor(MetadataRegistryService registry) {
+        this.registry = registry;
+    }
+    
+    @Override
+    public Map<String, Object> extract(Object data, HardcodedMappingConfig mappingConfig) {
+        HardcodedMappingConfig.CompiledField[] fields = mappingConfig.getCompiledFields();
+        Character delimiter = mappingConfig.getDelimiter();
+        if (delimiter != null) {
+            Map<String, Object> result = extractDelimited(data, delimiter, fields, mappingConfig);
+            if (result != null) {
+                return result;
+            }
+        }
+        
+        Map<String, Object> result = new HashMap<>(fields.length * 2);
+        for (HardcodedMappingConfig.CompiledField field : fields) {
+            Object value = field.getExpression().evaluate(data);
+            if (value != null) {
+                result.put(field.getFullFieldName(), value);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * 分隔格式提取，数据类型不适用时返回null
+     */
+    private Map<String, Object> extractDelimited(Object data, char delimiter,
+                                                 HardcodedMappingConfig.CompiledField[] fields,
+                                                 HardcodedMappingConfig mappingConfig) {
+        Map<String, MetaDefinition> definitions = registry != null ? registry.getAll() : null;
+        DelimitedPlan plan = mappingConfig.getDelimitedPlan();
+        if (plan == null || !plan.isCurrent(fields, definitions)) {
+            plan = DelimitedPlan.build(fields, definitions);
+            mappingConfig.setDelimitedPlan(plan);
+        }
+        if (plan.maxColumn < 0) {
+            return isDelimitedSource(data) ? new HashMap<>() : null;
+        }
+        
+        DelimiterIndex index = DelimiterIndex.of(data, delimiter, plan.maxColumn);
+        if (index == null) {
+            return null;
+        }
+        Map<String, Object> result = new HashMap<>(plan.columns.length * 2);
+        for (int i = 0; i < plan.columns.length; i++) {
+            String value = index.stringAt(plan.columns[i]);
+            if (value != null) {
+                result.put(plan.fieldNames[i], value);
+            }
+        }
+        return result;
+    }
+    
+    private static boolean isDelimitedSource(Object data) {
+        return data instanceof CharSequence || data instanceof byte[] || data instanceof ByteBuffer;
+    }
+    
+    @Override
+    public boolean supports(Object data, HardcodedMappingConfig mappingConfig) {
+        return data != null && mappingConfig != null;
+    }
+}
@@ -0,0 +1,57 @@
+package com.acme.core.metadata.extension;
+
+import com.acme.core.metadata.model.MetaDefinition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 分隔格式的列提取计划
+ * 只保留注册中心定义的字段及其列号，绑定编译结果和注册中心快照，任一变化后重建
+ */
+final class DelimitedPlan {
+    
+    final HardcodedMappingConfig.CompiledField[] source;
+    final Map<String, MetaDefinition> definitions;
+    final int[] columns;
+    final String[] fieldNames;
+    final int maxColumn;
+    
+    private DelimitedPlan(HardcodedMappingConfig.CompiledField[] source, Map<String, MetaDefinition> definitions,
+                          int[] columns, String[] fieldNames, int maxColumn) {
+        this.source = source;
+        this.definitions = definitions;
+        this.columns = columns;
+        this.fieldNames = fieldNames;
+        this.maxColumn = maxColumn;
+    }
+    
+    /**
+     * 构建列提取计划
+     * 
+     * @param fields 编译后的字段映射
+     * @param definitions 注册中心定义，为null表示提取全部映射字段
+     */
+    static DelimitedPlan build(HardcodedMappingConfig.CompiledField[] fields, Map<String, MetaDefinition> definitions) {
+        List<HardcodedMappingConfig.CompiledField> selected = new ArrayList<>();
+        int maxColumn = -1;
+        for (HardcodedMappingConfig.CompiledField field : fields) {
+            if (definitions == null || definitions.containsKey(field.getFullFieldName())) {
+                selected.add(field);
+                maxColumn = Math.max(maxColumn, field.getExpression().getRootIndex());
+            }
+        }
+        int[] columns = new int[selected.size()];
+        String[] names = new String[selected.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = selected.get(i).getExpression().getRootIndex();
+            names[i] = selected.get(i).getFullFieldName();
+        }
+        return new DelimitedPlan(fields, definitions, columns, names, maxColumn);
+    }
+    
+    boolean isCurrent(HardcodedMappingConfig.CompiledField[] fields, Map<String, MetaDefinition> definitions) {
+        return source == fields && this.definitions == definitions;
+    }
+}
@@ -0,0 +1,199 @@
+package com.acme.core.metadata.extension;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 分隔符位置索引
+ * 对CharSequence或UTF-8字节单遍扫描，只记录各列的起止位置，扫描到所需的最大列即停止；
+ * 列值以切片形式暴露，调用方只为真正需要的列创建字符串，宽记录无需整体split为String[]
+ */
+public final class DelimiterIndex {
+
+    private final CharSequence chars;
+    private final ByteBuffer bytes;
+    private final int[] bounds; // 第i列为[bounds[2i], bounds[2i+1])
+    private final int columnCount;
+
+    private DelimiterIndex(CharSequence chars, ByteBuffer bytes, int[] bounds, int columnCount) {
+        this.chars = chars;
+        this.bytes = bytes;
+        this.bounds = bounds;
+        this.columnCount = columnCount;
+    }
+
+    /**
+     * 建立分隔符索引
+     *
+     * @param data 原始数据，支持CharSequence、byte[]、ByteBuffer（UTF-8）
+     * @param delimiter 列分隔符，字节数据要求为ASCII字符
+     * @param maxColumn 需要的最大列下标，之后的内容不再扫描
+     * @return 分隔符索引，数据类型不支持时返回null
+     */
+    public static DelimiterIndex of(Object data, char delimiter, int maxColumn) {
+        int[] bounds = new int[(maxColumn + 1) * 2];
+        if (data instanceof CharSequence) {
+            CharSequence cs = (CharSequence) data;
+            int count = scan(cs, delimiter, bounds, maxColumn);
+            return new DelimiterIndex(cs, null, bounds, count);
+        }
+        ByteBuffer buffer;
+        if (data instanceof byte[]) {
+            buffer = ByteBuffer.wrap((byte[]) data);
+        } else if (data instanceof ByteBuffer) {
+            buffer = ((ByteBuffer) data).duplicate();
+        } else {
+            return null;
+        }
+        if (delimiter > 0x7F) {
+            throw new IllegalArgumentException("Delimiter must be ASCII for byte data: " + delimiter);
+        }
+        int count = scan(buffer, (byte) delimiter, bounds, maxColumn);
+        return new DelimiterIndex(null, buffer, bounds, count);
+    }
+
+    private static int scan(CharSequence cs, char delimiter, int[] bounds, int maxColumn) {
+        int column = 0;
+        int start = 0;
+        int length = cs.length();
+        for (int i = 0; i < length; i++) {
+            if (cs.charAt(i) == delimiter) {
+                bounds[column * 2] = start;
+                bounds[column * 2 + 1] = i;
+                if (column == maxColumn) {
+                    return column + 1;
+                }
+                column++;
+                start = i + 1;
+            }
+        }
+        bounds[column * 2] = start;
+        bounds[column * 2 + 1] = length;
+        return column + 1;
+    }
+
+    private static int scan(ByteBuffer buffer, byte delimiter, int[] bounds, int maxColumn) {
+        int column = 0;
+        int start = buffer.position();
+        int limit = buffer.limit();
+        for (int i = start; i < limit; i++) {
+            if (buffer.get(i) == delimiter) {
+                bounds[column * 2] = start;
+                bounds[column * 2 + 1] = i;
+                if (column == maxColumn) {
+                    return column + 1;
+                }
+                column++;
+                start = i + 1;
+            }
+        }
+        bounds[column * 2] = start;
+        bounds[column * 2 + 1] = limit;
+        return column + 1;
+    }
+
+    /**
+     * 已索引的列数，不超过maxColumn + 1
+     */
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    /**
+     * 获取列的字符切片，字符数据不复制，字节数据按UTF-8解码
+     *
+     * @param column 列下标
+     * @return 列内容，列不存在时返回null
+     */
+    public CharSequence charsAt(int column) {
+        if (column >= columnCount) {
+            return null;
+        }
+        if (chars != null) {
+            return new CharSlice(chars, bounds[column * 2], bounds[column * 2 + 1]);
+        }
+        return stringAt(column);
+    }
+
+    /**
+     * 获取列的字节切片，共享底层存储，仅字节数据可用
+     *
+     * @param column 列下标
+     * @return 列内容，列不存在或数据为字符时返回null
+     */
+    public ByteBuffer bytesAt(int column) {
+        if (bytes == null || column >= columnCount) {
+            return null;
+        }
+        ByteBuffer slice = bytes.duplicate();
+        slice.limit(bounds[column * 2 + 1]).position(bounds[column * 2]);
+        return slice.slice();
+    }
+
+    /**
+     * 将列内容物化为字符串
+     *
+     * @param column 列下标
+     * @return 列内容，列不存在时返回null
+     */
+    public String stringAt(int column) {
+        if (column >= columnCount) {
+            return null;
+        }
+        int start = bounds[column * 2];
+        int end = bounds[column * 2 + 1];
+        if (chars != null) {
+            return chars.subSequence(start, end).toString();
+        }
+        if (bytes.hasArray()) {
+            return new String(bytes.array(), bytes.arrayOffset() + start, end - start, StandardCharsets.UTF_8);
+        }
+        byte[] copy = new byte[end - start];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = bytes.get(start + i);
+        }
+        return new String(copy, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 不复制的字符序列视图
+     */
+    private static final class CharSlice implements CharSequence {
+
+        private final CharSequence source;
+        private final int start;
+        private final int end;
+
+        CharSlice(CharSequence source, int start, int end) {
+            this.source = source;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length()) {
+                throw new IndexOutOfBoundsException("index " + index + ", length " + length());
+            }
+            return source.charAt(start + index);
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            if (from < 0 || to > length() || from > to) {
+                throw new IndexOutOfBoundsException("from " + from + ", to " + to + ", length " + length());
+            }
+            return new CharSlice(source, start + from, start + to);
+        }
+
+        @Override
+        public String toString() {
+            return source.subSequence(start, end).toString();
+        }
+    }
+}
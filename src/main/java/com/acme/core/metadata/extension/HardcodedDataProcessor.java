@@ -1,5 +1,7 @@
 package com.acme.core.metadata.extension;
 
+import com.acme.core.metadata.registry.MetadataRegistryService;
+
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -7,11 +9,21 @@ import java.util.concurrent.ConcurrentHashMap;
  * 硬编码数据处理器
  * 管理和协调多个硬编码数据提取器
  * 为后续扩展硬编码数据监控提供统一接口
+ * 未注册提取器的数据类型使用内置的{@link CompiledMappingExtractor}
  */
 public class HardcodedDataProcessor {
     
     private final Map<String, HardcodedDataExtractor> extractors = new ConcurrentHashMap<>();
     private final Map<String, HardcodedMappingConfig> mappingConfigs = new ConcurrentHashMap<>();
+    private volatile HardcodedDataExtractor defaultExtractor = new CompiledMappingExtractor();
+    
+    /**
+     * 关联注册中心后，分隔格式数据只提取注册中心定义的字段
+     * @param registryService 元数据注册中心
+     */
+    public void setMetadataRegistryService(MetadataRegistryService registryService) {
+        this.defaultExtractor = new CompiledMappingExtractor(registryService);
+    }
     
     /**
      * 注册硬编码数据提取器
@@ -24,10 +36,13 @@ public class HardcodedDataProcessor {
     
     /**
      * 注册硬编码映射配置
+     * 注册时编译全部映射表达式，语法错误在此处暴露而不是延迟到提取时
      * @param dataType 数据类型标识
      * @param config 映射配置
+     * @throws IllegalArgumentException 映射表达式语法错误
      */
     public void registerMappingConfig(String dataType, HardcodedMappingConfig config) {
+        config.compile();
         mappingConfigs.put(dataType, config);
     }
     
@@ -38,10 +53,10 @@ public class HardcodedDataProcessor {
      * @return 提取的监控字段kv数据
      */
     public Map<String, Object> processHardcodedData(Object data, String dataType) {
-        HardcodedDataExtractor extractor = extractors.get(dataType);
+        HardcodedDataExtractor extractor = extractors.getOrDefault(dataType, defaultExtractor);
         HardcodedMappingConfig config = mappingConfigs.get(dataType);
         
-        if (extractor == null || config == null) {
+        if (config == null) {
             return new HashMap<>();
         }
         
@@ -58,7 +73,7 @@ public class HardcodedDataProcessor {
      * @return true表示支持，false表示不支持
      */
     public boolean supportsHardcodedData(String dataType) {
-        return extractors.containsKey(dataType) && mappingConfigs.containsKey(dataType);
+        return mappingConfigs.containsKey(dataType);
     }
     
     /**
@@ -66,9 +81,7 @@ public class HardcodedDataProcessor {
      * @return 支持的数据类型集合
      */
     public Set<String> getSupportedDataTypes() {
-        Set<String> supported = new HashSet<>(extractors.keySet());
-        supported.retainAll(mappingConfigs.keySet());
-        return supported;
+        return new HashSet<>(mappingConfigs.keySet());
     }
     
     /**
@@ -1,16 +1,23 @@
 package com.acme.core.metadata.extension;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
  * 硬编码数据映射配置
  * 定义如何将原始数据映射到监控字段
+ * 映射表达式在注册时通过{@link #compile()}编译为访问步骤，提取时直接复用
+ * 配置分隔符后，字符串或字节形式的原始数据按列定位，映射表达式须为Str[n]形式
  */
 public class HardcodedMappingConfig {
     
     private String dataType; // 数据类型标识（如"dtoA"）
     private Map<String, String> fieldMappings; // 字段映射（如A -> Str[0], B -> Str[1]）
     private Map<String, Object> metadata; // 额外的元数据配置
+    private Character delimiter; // 列分隔符（如'|'），为null表示原始数据不是分隔格式
+    private volatile CompiledField[] compiledFields; // 编译后的字段映射，配置变更后失效
+    private volatile DelimitedPlan delimitedPlan; // 分隔格式的列提取计划
     
     public HardcodedMappingConfig() {}
     
@@ -37,6 +44,49 @@ public class HardcodedMappingConfig {
         return fieldMappings != null ? fieldMappings.get(fieldName) : null;
     }
     
+    /**
+     * 编译全部字段映射表达式
+     * 任一表达式语法错误时抛出异常，已有的编译结果保持不变
+     * 
+     * @throws IllegalArgumentException 表达式语法错误
+     */
+    public void compile() {
+        List<CompiledField> fields = new ArrayList<>();
+        if (fieldMappings != null) {
+            for (Map.Entry<String, String> entry : fieldMappings.entrySet()) {
+                MappingExpression expression = MappingExpression.compile(entry.getValue());
+                if (delimiter != null && expression.getRootIndex() < 0) {
+                    throw new IllegalArgumentException("Delimited mapping for field '" + entry.getKey()
+                            + "' must be positional like Str[n]: " + entry.getValue());
+                }
+                fields.add(new CompiledField(entry.getKey(), getFullFieldName(entry.getKey()), expression));
+            }
+        }
+        this.compiledFields = fields.toArray(new CompiledField[0]);
+        this.delimitedPlan = null;
+    }
+    
+    /**
+     * 获取编译后的字段映射，尚未编译时先编译
+     * @return 编译后的字段映射
+     */
+    public CompiledField[] getCompiledFields() {
+        CompiledField[] fields = compiledFields;
+        if (fields == null) {
+            compile();
+            fields = compiledFields;
+        }
+        return fields;
+    }
+    
+    DelimitedPlan getDelimitedPlan() {
+        return delimitedPlan;
+    }
+    
+    void setDelimitedPlan(DelimitedPlan delimitedPlan) {
+        this.delimitedPlan = delimitedPlan;
+    }
+    
     // Getters and Setters
     public String getDataType() {
         return dataType;
@@ -44,6 +94,7 @@ public class HardcodedMappingConfig {
     
     public void setDataType(String dataType) {
         this.dataType = dataType;
+        this.compiledFields = null;
     }
     
     public Map<String, String> getFieldMappings() {
@@ -52,6 +103,16 @@ public class HardcodedMappingConfig {
     
     public void setFieldMappings(Map<String, String> fieldMappings) {
         this.fieldMappings = fieldMappings;
+        this.compiledFields = null;
+    }
+    
+    public Character getDelimiter() {
+        return delimiter;
+    }
+    
+    public void setDelimiter(Character delimiter) {
+        this.delimiter = delimiter;
+        this.compiledFields = null;
     }
     
     public Map<String, Object> getMetadata() {
@@ -61,4 +122,32 @@ public class HardcodedMappingConfig {
     public void setMetadata(Map<String, Object> metadata) {
         this.metadata = metadata;
     }
-}
\ No newline at end of file
+    
+    /**
+     * 编译后的单个字段映射
+     */
+    public static final class CompiledField {
+        
+        private final String fieldName;
+        private final String fullFieldName;
+        private final MappingExpression expression;
+        
+        CompiledField(String fieldName, String fullFieldName, MappingExpression expression) {
+            this.fieldName = fieldName;
+            this.fullFieldName = fullFieldName;
+            this.expression = expression;
+        }
+        
+        public String getFieldName() {
+            return fieldName;
+        }
+        
+        public String getFullFieldName() {
+            return fullFieldName;
+        }
+        
+        public MappingExpression getExpression() {
+            return expression;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.acme.core.metadata.extension;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 编译后的字段映射表达式
+ * 注册映射配置时一次性解析为访问步骤序列，提取时直接按步骤取值，不再逐次解释表达式字符串。
+ * <p>
+ * 支持的语法：
+ * <ul>
+ *   <li>{@code Str[0]} - 根别名（Str、Arr、Data、$）表示原始数据本身，随后按下标取值</li>
+ *   <li>{@code a.b[2].c} - 属性路径，依次读取Map键或JavaBean属性，下标适用于数组和List</li>
+ *   <li>{@code ['key']}、{@code a["k.1"]} - 带引号的Map键，键中可包含点号</li>
+ * </ul>
+ * 路径中任一步取到null或类型不匹配时，整个表达式结果为null。实例不可变，可在多线程间共享
+ */
+public final class MappingExpression {
+
+    private static final String[] ROOT_ALIASES = {"Str", "Arr", "Data", "$"};
+
+    private final String source;
+    private final Step[] steps;
+
+    private MappingExpression(String source, Step[] steps) {
+        this.source = source;
+        this.steps = steps;
+    }
+
+    /**
+     * 编译映射表达式
+     *
+     * @param expression 映射表达式
+     * @return 编译后的表达式
+     * @throws IllegalArgumentException 表达式语法错误
+     */
+    public static MappingExpression compile(String expression) {
+        if (expression == null || expression.trim().isEmpty()) {
+            throw new IllegalArgumentException("Mapping expression must not be empty");
+        }
+        String expr = expression.trim();
+        List<Step> steps = new ArrayList<>();
+        int pos = 0;
+
+        // 根别名只在表达式开头识别
+        for (String alias : ROOT_ALIASES) {
+            if (expr.startsWith(alias) && (expr.length() == alias.length()
+                    || expr.charAt(alias.length()) == '[' || expr.charAt(alias.length()) == '.')) {
+                pos = alias.length();
+                if (pos < expr.length() && expr.charAt(pos) == '.') {
+                    pos++;
+                }
+                break;
+            }
+        }
+
+        while (pos < expr.length()) {
+            char c = expr.charAt(pos);
+            if (c == '[') {
+                int close = expr.indexOf(']', pos);
+                if (close < 0) {
+                    throw syntaxError(expr, pos, "unclosed '['");
+                }
+                String inner = expr.substring(pos + 1, close).trim();
+                if (inner.length() >= 2 && (inner.charAt(0) == '\'' || inner.charAt(0) == '"')
+                        && inner.charAt(inner.length() - 1) == inner.charAt(0)) {
+                    steps.add(new KeyStep(inner.substring(1, inner.length() - 1)));
+                } else {
+                    steps.add(new IndexStep(parseIndex(expr, pos, inner)));
+                }
+                pos = close + 1;
+                if (pos < expr.length() && expr.charAt(pos) != '.' && expr.charAt(pos) != '[') {
+                    throw syntaxError(expr, pos, "unexpected character '" + expr.charAt(pos) + "'");
+                }
+            } else if (c == '.') {
+                if (pos + 1 >= expr.length() || !isNameChar(expr.charAt(pos + 1))) {
+                    throw syntaxError(expr, pos, "expected property name after '.'");
+                }
+                pos++;
+            } else if (isNameChar(c)) {
+                int end = pos;
+                while (end < expr.length() && isNameChar(expr.charAt(end))) {
+                    end++;
+                }
+                steps.add(new PropertyStep(expr.substring(pos, end)));
+                pos = end;
+                if (pos < expr.length() && expr.charAt(pos) != '.' && expr.charAt(pos) != '[') {
+                    throw syntaxError(expr, pos, "unexpected character '" + expr.charAt(pos) + "'");
+                }
+            } else {
+                throw syntaxError(expr, pos, "unexpected character '" + c + "'");
+            }
+        }
+        return new MappingExpression(expr, steps.toArray(new Step[0]));
+    }
+
+    /**
+     * 按编译好的步骤从原始数据中取值
+     *
+     * @param data 原始数据
+     * @return 取到的值，路径不存在时返回null
+     */
+    public Object evaluate(Object data) {
+        Object current = data;
+        for (Step step : steps) {
+            if (current == null) {
+                return null;
+            }
+            current = step.apply(current);
+        }
+        return current;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * 表达式是否为根下标形式（如Str[3]），此时结果只依赖原始数据的第N个元素
+     *
+     * @return 根下标位置，非此形式返回-1
+     */
+    public int getRootIndex() {
+        return steps.length == 1 && steps[0] instanceof IndexStep ? ((IndexStep) steps[0]).index : -1;
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+
+    private static int parseIndex(String expr, int pos, String inner) {
+        try {
+            int index = Integer.parseInt(inner);
+            if (index < 0) {
+                throw syntaxError(expr, pos, "negative index " + index);
+            }
+            return index;
+        } catch (NumberFormatException e) {
+            throw syntaxError(expr, pos, "invalid index '" + inner + "'");
+        }
+    }
+
+    private static boolean isNameChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+
+    private static IllegalArgumentException syntaxError(String expr, int pos, String reason) {
+        return new IllegalArgumentException(
+                "Invalid mapping expression '" + expr + "' at position " + pos + ": " + reason);
+    }
+
+    /**
+     * 单个访问步骤
+     */
+    private interface Step {
+        Object apply(Object target);
+    }
+
+    private static final class IndexStep implements Step {
+        final int index;
+
+        IndexStep(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public Object apply(Object target) {
+            if (target instanceof List) {
+                List<?> list = (List<?>) target;
+                return index < list.size() ? list.get(index) : null;
+            }
+            if (target.getClass().isArray()) {
+                return index < Array.getLength(target) ? Array.get(target, index) : null;
+            }
+            return null;
+        }
+    }
+
+    private static final class KeyStep implements Step {
+        final String key;
+
+        KeyStep(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public Object apply(Object target) {
+            return target instanceof Map ? ((Map<?, ?>) target).get(key) : null;
+        }
+    }
+
+    /**
+     * 属性访问：Map按键取值，其他对象按getter取值
+     * 以单态内联缓存记住上一次解析的类型和方法，同一映射通常面对同一种DTO
+     */
+    private static final class PropertyStep implements Step {
+        final String name;
+        private volatile ResolvedGetter cached;
+
+        PropertyStep(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Object apply(Object target) {
+            if (target instanceof Map) {
+                return ((Map<?, ?>) target).get(name);
+            }
+            Class<?> type = target.getClass();
+            ResolvedGetter getter = cached;
+            if (getter == null || getter.type != type) {
+                getter = new ResolvedGetter(type, findGetter(type, name));
+                cached = getter;
+            }
+            if (getter.method == null) {
+                return null;
+            }
+            try {
+                return getter.method.invoke(target);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Failed to read property '" + name + "' of " + type.getName(), e);
+            }
+        }
+
+        private static Method findGetter(Class<?> type, String name) {
+            String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            for (String candidate : new String[]{"get" + suffix, "is" + suffix, name}) {
+                try {
+                    Method method = type.getMethod(candidate);
+                    if (method.getReturnType() != void.class && !Modifier.isStatic(method.getModifiers())) {
+                        try {
+                            method.setAccessible(true);
+                        } catch (RuntimeException ignored) {
+                            // 模块不开放时保持默认访问检查
+                        }
+                        return method;
+                    }
+                } catch (NoSuchMethodException | SecurityException ignored) {
+                    // 尝试下一种命名
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class ResolvedGetter {
+        final Class<?> type;
+        final Method method;
+
+        ResolvedGetter(Class<?> type, Method method) {
+            this.type = type;
+            this.method = method;
+        }
+    }
+}
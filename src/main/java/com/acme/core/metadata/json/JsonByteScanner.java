@@ -0,0 +1,409 @@
+package com.acme.core.metadata.json;
+
+import com.acme.core.metadata.collection.MetadataCollectionUnit;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JSON字节流扫描器
+ * 按路径前缀树单遍扫描UTF-8字节：
+ * <ul>
+ *   <li>成员名直接与树节点的字节比较，不创建字符串</li>
+ *   <li>命中终止节点的值才会物化为String/Integer/Long/Double/Boolean，对象和数组保留原始JSON文本</li>
+ *   <li>未命中的值只移动游标跳过，不产生任何分配</li>
+ * </ul>
+ * 每次扫描新建实例，不可跨线程共享
+ */
+final class JsonByteScanner {
+
+    private static final int MAX_DEPTH = 512;
+
+    private final ByteBuffer buf;
+    private final int limit;
+    private final MetadataCollectionUnit unit;
+    private int pos;
+
+    JsonByteScanner(ByteBuffer buf, MetadataCollectionUnit unit) {
+        this.buf = buf;
+        this.pos = buf.position();
+        this.limit = buf.limit();
+        this.unit = unit;
+    }
+
+    /**
+     * 扫描整个文档，根节点必须是对象
+     */
+    void scan(JsonPathNode root) {
+        skipWhitespace();
+        if (peek() != '{') {
+            throw error("Expected JSON object");
+        }
+        readObject(root, 0);
+        skipWhitespace();
+        if (pos < limit) {
+            throw error("Trailing content after JSON document");
+        }
+    }
+
+    private void readValue(JsonPathNode node, int depth) {
+        skipWhitespace();
+        byte c = peek();
+        if (c == '{' && node.hasChildren()) {
+            int start = pos;
+            readObject(node, depth + 1);
+            if (node.isTerminal()) {
+                emit(node, slice(start, pos));
+            }
+        } else if (node.isTerminal()) {
+            emit(node, materialize(depth));
+        } else {
+            skipValue(depth);
+        }
+    }
+
+    private void readObject(JsonPathNode node, int depth) {
+        checkDepth(depth);
+        expect('{');
+        skipWhitespace();
+        if (peek() == '}') {
+            pos++;
+            return;
+        }
+        while (true) {
+            skipWhitespace();
+            expect('"');
+            int nameStart = pos;
+            boolean escaped = skipStringBody();
+            int nameEnd = pos - 1;
+            skipWhitespace();
+            expect(':');
+
+            JsonPathNode child = matchChild(node, nameStart, nameEnd, escaped);
+            if (child != null) {
+                readValue(child, depth);
+            } else {
+                skipValue(depth);
+            }
+
+            skipWhitespace();
+            byte c = next();
+            if (c == '}') {
+                return;
+            }
+            if (c != ',') {
+                throw error("Expected ',' or '}'");
+            }
+        }
+    }
+
+    private JsonPathNode matchChild(JsonPathNode node, int start, int end, boolean escaped) {
+        JsonPathNode[] children = node.children;
+        if (children.length == 0) {
+            return null;
+        }
+        if (escaped) {
+            // 成员名含转义时极少见，解码后按字符串比较
+            return node.child(decodeString(start, end, true));
+        }
+        int length = end - start;
+        for (JsonPathNode child : children) {
+            byte[] name = child.nameBytes;
+            if (name.length == length && regionEquals(name, start)) {
+                return child;
+            }
+        }
+        return null;
+    }
+
+    private boolean regionEquals(byte[] name, int start) {
+        for (int i = 0; i < name.length; i++) {
+            if (buf.get(start + i) != name[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void emit(JsonPathNode node, Object value) {
+        if (value == null) {
+            return;
+        }
+        switch (node.envSlot) {
+            case JsonPathNode.ENV_USER_ID:
+                unit.setUserId(String.valueOf(value));
+                break;
+            case JsonPathNode.ENV_OPERATE_SYSTEM:
+                unit.setOperateSystem(String.valueOf(value));
+                break;
+            case JsonPathNode.ENV_PROD_ID:
+                unit.setProdId(String.valueOf(value));
+                break;
+            default:
+                break;
+        }
+        if (node.targetKey != null) {
+            unit.addMetadataField(node.targetKey, value);
+        }
+    }
+
+    /**
+     * 物化当前值，null字面量返回null
+     */
+    private Object materialize(int depth) {
+        byte c = peek();
+        switch (c) {
+            case '"': {
+                pos++;
+                int start = pos;
+                boolean escaped = skipStringBody();
+                return decodeString(start, pos - 1, escaped);
+            }
+            case '{':
+            case '[': {
+                int start = pos;
+                skipValue(depth);
+                return slice(start, pos);
+            }
+            case 't':
+                expectLiteral("true");
+                return Boolean.TRUE;
+            case 'f':
+                expectLiteral("false");
+                return Boolean.FALSE;
+            case 'n':
+                expectLiteral("null");
+                return null;
+            default:
+                return readNumber();
+        }
+    }
+
+    private Object readNumber() {
+        int start = pos;
+        boolean negative = false;
+        if (peek() == '-') {
+            negative = true;
+            pos++;
+        }
+        long value = 0;
+        int digits = 0;
+        boolean overflow = false;
+        while (pos < limit) {
+            byte b = buf.get(pos);
+            if (b < '0' || b > '9') {
+                break;
+            }
+            if (value > (Long.MAX_VALUE - (b - '0')) / 10) {
+                overflow = true;
+            }
+            value = value * 10 + (b - '0');
+            digits++;
+            pos++;
+        }
+        if (digits == 0) {
+            throw error("Unexpected character");
+        }
+        boolean fraction = false;
+        while (pos < limit) {
+            byte b = buf.get(pos);
+            if (b == '.' || b == 'e' || b == 'E' || b == '+' || b == '-' || (b >= '0' && b <= '9')) {
+                fraction = true;
+                pos++;
+            } else {
+                break;
+            }
+        }
+        if (fraction || overflow) {
+            String text = decodeString(start, pos, false);
+            try {
+                return Double.valueOf(text);
+            } catch (NumberFormatException e) {
+                throw error("Malformed number '" + text + "'");
+            }
+        }
+        long signed = negative ? -value : value;
+        if (signed >= Integer.MIN_VALUE && signed <= Integer.MAX_VALUE) {
+            return (int) signed;
+        }
+        return signed;
+    }
+
+    /**
+     * 跳过任意值，只移动游标
+     */
+    private void skipValue(int depth) {
+        skipWhitespace();
+        byte c = peek();
+        switch (c) {
+            case '"':
+                pos++;
+                skipStringBody();
+                return;
+            case '{':
+            case '[':
+                skipContainer(depth);
+                return;
+            case 't':
+                expectLiteral("true");
+                return;
+            case 'f':
+                expectLiteral("false");
+                return;
+            case 'n':
+                expectLiteral("null");
+                return;
+            default:
+                skipNumber();
+        }
+    }
+
+    /**
+     * 按括号深度跳过对象或数组，字符串内的括号不计入深度
+     */
+    private void skipContainer(int depth) {
+        int nesting = 0;
+        do {
+            byte c = next();
+            if (c == '"') {
+                skipStringBody();
+            } else if (c == '{' || c == '[') {
+                nesting++;
+                checkDepth(depth + nesting);
+            } else if (c == '}' || c == ']') {
+                nesting--;
+            }
+        } while (nesting > 0);
+    }
+
+    private void skipNumber() {
+        int start = pos;
+        while (pos < limit) {
+            byte b = buf.get(pos);
+            if (b == '-' || b == '+' || b == '.' || b == 'e' || b == 'E' || (b >= '0' && b <= '9')) {
+                pos++;
+            } else {
+                break;
+            }
+        }
+        if (pos == start) {
+            throw error("Unexpected character");
+        }
+    }
+
+    /**
+     * 游标位于开引号之后，跳到闭引号之后
+     *
+     * @return 字符串中是否包含转义
+     */
+    private boolean skipStringBody() {
+        boolean escaped = false;
+        while (true) {
+            byte b = next();
+            if (b == '"') {
+                return escaped;
+            }
+            if (b == '\\') {
+                escaped = true;
+                next();
+            }
+        }
+    }
+
+    private String decodeString(int start, int end, boolean escaped) {
+        String raw = slice(start, end);
+        return escaped ? unescape(raw) : raw;
+    }
+
+    private String slice(int start, int end) {
+        int length = end - start;
+        if (buf.hasArray()) {
+            return new String(buf.array(), buf.arrayOffset() + start, length, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buf.get(start + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private String unescape(String raw) {
+        StringBuilder sb = new StringBuilder(raw.length());
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+            char e = raw.charAt(++i);
+            switch (e) {
+                case 'b': sb.append('\b'); break;
+                case 'f': sb.append('\f'); break;
+                case 'n': sb.append('\n'); break;
+                case 'r': sb.append('\r'); break;
+                case 't': sb.append('\t'); break;
+                case 'u':
+                    if (i + 4 >= raw.length()) {
+                        throw error("Malformed unicode escape");
+                    }
+                    try {
+                        sb.append((char) Integer.parseInt(raw.substring(i + 1, i + 5), 16));
+                    } catch (NumberFormatException ex) {
+                        throw error("Malformed unicode escape");
+                    }
+                    i += 4;
+                    break;
+                default:
+                    sb.append(e);
+            }
+        }
+        return sb.toString();
+    }
+
+    private void expectLiteral(String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            if (next() != literal.charAt(i)) {
+                throw error("Malformed literal, expected '" + literal + "'");
+            }
+        }
+    }
+
+    private void expect(char c) {
+        if (next() != c) {
+            throw error("Expected '" + c + "'");
+        }
+    }
+
+    private void checkDepth(int depth) {
+        if (depth > MAX_DEPTH) {
+            throw error("JSON nesting exceeds " + MAX_DEPTH);
+        }
+    }
+
+    private void skipWhitespace() {
+        while (pos < limit) {
+            byte b = buf.get(pos);
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                return;
+            }
+            pos++;
+        }
+    }
+
+    private byte peek() {
+        if (pos >= limit) {
+            throw error("Unexpected end of JSON input");
+        }
+        return buf.get(pos);
+    }
+
+    private byte next() {
+        byte b = peek();
+        pos++;
+        return b;
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at offset " + (pos - buf.position()));
+    }
+}
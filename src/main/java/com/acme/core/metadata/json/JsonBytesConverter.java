@@ -0,0 +1,174 @@
+package com.acme.core.metadata.json;
+
+import com.acme.core.metadata.AbstractConverter;
+import com.acme.core.metadata.StreamingDataConverter;
+import com.acme.core.metadata.collection.MetadataCollectionUnit;
+import com.acme.core.metadata.model.MetaDefinition;
+import com.acme.core.metadata.registry.MetadataRegistryService;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JSON字节转换器
+ * 直接从byte[]或ByteBuffer中的UTF-8 JSON文档提取监控单元，不反序列化为DTO：
+ * <ul>
+ *   <li>注册中心定义的键按点分路径提取，例如extInfo.riskLevel对应{"extInfo":{"riskLevel":..}}</li>
+ *   <li>可额外配置 元数据键 -> JSON路径 的映射，优先于注册中心同名键</li>
+ *   <li>userId/operateSystem/prodId从可配置路径读取</li>
+ * </ul>
+ * 其余成员只做跳过，大报文无需构建完整对象图。每个源对应一个单元，ByteBuffer的position和limit不会被修改
+ */
+public class JsonBytesConverter extends AbstractConverter implements StreamingDataConverter {
+
+    private final MetadataRegistryService registry;
+
+    private final Map<String, String> pathMappings = new LinkedHashMap<>();
+    private String userIdPath = "userId";
+    private String operateSystemPath = "operateSystem";
+    private String prodIdPath = "prodId";
+    private volatile boolean includeRegistryKeys = true;
+
+    /**
+     * 路径树缓存，注册中心定义集合被替换或配置变更后重建
+     */
+    private volatile PathIndex pathIndex;
+
+    public JsonBytesConverter(MetadataRegistryService registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void stream(List<?> sources, UnitSink sink) throws Exception {
+        JsonPathNode root = currentRoot();
+        for (Object source : sources) {
+            ByteBuffer buffer = asBuffer(source);
+            if (buffer == null) {
+                continue;
+            }
+            MetadataCollectionUnit unit = new MetadataCollectionUnit();
+            new JsonByteScanner(buffer, unit).scan(root);
+            sink.accept(unit);
+        }
+    }
+
+    private static ByteBuffer asBuffer(Object source) {
+        if (source instanceof byte[]) {
+            return ByteBuffer.wrap((byte[]) source);
+        }
+        if (source instanceof ByteBuffer) {
+            return ((ByteBuffer) source).duplicate();
+        }
+        return null;
+    }
+
+    private JsonPathNode currentRoot() {
+        Map<String, MetaDefinition> definitions = includeRegistryKeys && registry != null
+                ? registry.getAll() : Collections.emptyMap();
+        PathIndex index = pathIndex;
+        if (index == null || index.definitions != definitions) {
+            index = rebuild(definitions);
+        }
+        return index.root;
+    }
+
+    private synchronized PathIndex rebuild(Map<String, MetaDefinition> definitions) {
+        PathIndex index = new PathIndex(definitions, buildTrie(definitions));
+        pathIndex = index;
+        return index;
+    }
+
+    private JsonPathNode buildTrie(Map<String, MetaDefinition> definitions) {
+        JsonPathNode root = new JsonPathNode(null);
+        for (String key : definitions.keySet()) {
+            // 配置了同名路径映射时只按映射路径提取，不再读取默认路径
+            if (!pathMappings.containsKey(key)) {
+                root.insert(key).targetKey = key;
+            }
+        }
+        for (Map.Entry<String, String> mapping : pathMappings.entrySet()) {
+            root.insert(mapping.getValue()).targetKey = mapping.getKey();
+        }
+        bindEnv(root, userIdPath, JsonPathNode.ENV_USER_ID);
+        bindEnv(root, operateSystemPath, JsonPathNode.ENV_OPERATE_SYSTEM);
+        bindEnv(root, prodIdPath, JsonPathNode.ENV_PROD_ID);
+        return root;
+    }
+
+    private static void bindEnv(JsonPathNode root, String path, int slot) {
+        if (path != null && !path.isEmpty()) {
+            root.insert(path).envSlot = slot;
+        }
+    }
+
+    /**
+     * 配置额外提取路径，覆盖注册中心同名键的默认路径
+     *
+     * @param metadataKey 写入单元的元数据键
+     * @param jsonPath 点分JSON路径
+     */
+    public synchronized void addPathMapping(String metadataKey, String jsonPath) {
+        if (metadataKey == null || jsonPath == null) {
+            throw new IllegalArgumentException("Metadata key and JSON path must not be null");
+        }
+        pathMappings.put(metadataKey, jsonPath);
+        pathIndex = null;
+    }
+
+    public synchronized void setPathMappings(Map<String, String> mappings) {
+        pathMappings.clear();
+        if (mappings != null) {
+            mappings.forEach(this::addPathMapping);
+        }
+        pathIndex = null;
+    }
+
+    public synchronized void setUserIdPath(String userIdPath) {
+        this.userIdPath = userIdPath;
+        pathIndex = null;
+    }
+
+    public synchronized void setOperateSystemPath(String operateSystemPath) {
+        this.operateSystemPath = operateSystemPath;
+        pathIndex = null;
+    }
+
+    public synchronized void setProdIdPath(String prodIdPath) {
+        this.prodIdPath = prodIdPath;
+        pathIndex = null;
+    }
+
+    /**
+     * 是否按注册中心定义的键提取，关闭后只提取显式配置的路径
+     */
+    public synchronized void setIncludeRegistryKeys(boolean includeRegistryKeys) {
+        this.includeRegistryKeys = includeRegistryKeys;
+        pathIndex = null;
+    }
+
+    @Override
+    public Set<Class<?>> getSupportedTypes() {
+        return new HashSet<>(Arrays.asList(byte[].class, ByteBuffer.class));
+    }
+
+    @Override
+    public String getDescription() {
+        return "JsonBytesConverter: 从JSON字节直接提取元数据字段";
+    }
+
+    private static final class PathIndex {
+        final Map<String, MetaDefinition> definitions;
+        final JsonPathNode root;
+
+        PathIndex(Map<String, MetaDefinition> definitions, JsonPathNode root) {
+            this.definitions = definitions;
+            this.root = root;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.acme.core.metadata.json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * JSON路径前缀树节点
+ * 以UTF-8字节保存成员名，扫描时直接与原始字节比较，不为成员名创建字符串
+ */
+final class JsonPathNode {
+    
+    static final int ENV_NONE = -1;
+    static final int ENV_USER_ID = 0;
+    static final int ENV_OPERATE_SYSTEM = 1;
+    static final int ENV_PROD_ID = 2;
+    
+    private static final JsonPathNode[] NO_CHILDREN = new JsonPathNode[0];
+    
+    final String name;
+    final byte[] nameBytes;
+    JsonPathNode[] children = NO_CHILDREN;
+    
+    /**
+     * 命中时写入的元数据键，为null表示非终止节点
+     */
+    String targetKey;
+    
+    /**
+     * 命中时写入的固定字段槽位
+     */
+    int envSlot = ENV_NONE;
+    
+    JsonPathNode(String name) {
+        this.name = name;
+        this.nameBytes = name == null ? null : name.getBytes(StandardCharsets.UTF_8);
+    }
+    
+    boolean isTerminal() {
+        return targetKey != null || envSlot != ENV_NONE;
+    }
+    
+    boolean hasChildren() {
+        return children.length > 0;
+    }
+    
+    /**
+     * 按点分路径插入节点，返回路径末端节点
+     */
+    JsonPathNode insert(String path) {
+        JsonPathNode node = this;
+        for (String segment : path.split("\\.")) {
+            if (segment.isEmpty()) {
+                throw new IllegalArgumentException("Empty segment in JSON path: " + path);
+            }
+            JsonPathNode child = node.child(segment);
+            if (child == null) {
+                child = new JsonPathNode(segment);
+                node.children = Arrays.copyOf(node.children, node.children.length + 1);
+                node.children[node.children.length - 1] = child;
+            }
+            node = child;
+        }
+        return node;
+    }
+    
+    JsonPathNode child(String segment) {
+        for (JsonPathNode child : children) {
+            if (child.name.equals(segment)) {
+                return child;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,246 @@
+package com.acme.core.metadata.metric;
+
+import com.acme.core.metadata.async.AsyncExecutionEngine;
+import com.acme.core.metadata.async.LaneAsyncEngine;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 异步执行指标
+ * 使用LongAdder计数，热路径上多线程累加无竞争；
+ * 排队等待和执行耗时记录在{@link LatencyHistogram}中，队列深度、活跃线程数和分道统计从绑定的执行引擎实时读取
+ */
+public class AsyncExecutorMetrics {
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+    private final LongAdder droppedNewest = new LongAdder();
+    private final LongAdder droppedOldest = new LongAdder();
+    private final LongAdder sampledOut = new LongAdder();
+    private final LongAdder spilled = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final AtomicLong peakQueueSize = new AtomicLong();
+
+    private final LatencyHistogram queueWait = new LatencyHistogram();
+    private final LatencyHistogram runTime = new LatencyHistogram();
+
+    private volatile AsyncExecutionEngine engine;
+
+    // 周期报告使用的上一次快照
+    private LatencyHistogram.Snapshot lastQueueWait;
+    private LatencyHistogram.Snapshot lastRunTime;
+
+    /**
+     * 绑定执行引擎以读取队列深度等实时指标
+     */
+    public void bindEngine(AsyncExecutionEngine engine) {
+        this.engine = engine;
+    }
+
+    public void recordSubmitted() {
+        submitted.increment();
+        AsyncExecutionEngine current = engine;
+        if (current != null) {
+            long size = current.queueSize();
+            long peak;
+            while (size > (peak = peakQueueSize.get())) {
+                if (peakQueueSize.compareAndSet(peak, size)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    public void recordCallerRuns() {
+        callerRuns.increment();
+    }
+
+    public void recordDroppedNewest() {
+        droppedNewest.increment();
+    }
+
+    public void recordDroppedOldest() {
+        droppedOldest.increment();
+    }
+
+    public void recordSampledOut() {
+        sampledOut.increment();
+    }
+
+    public void recordSpilled() {
+        spilled.increment();
+    }
+
+    public void recordReplayed() {
+        replayed.increment();
+    }
+
+    /**
+     * 任务开始执行，记录排队等待时间
+     *
+     * @param enqueuedNanos 入队时的System.nanoTime()
+     * @return 开始执行时的System.nanoTime()
+     */
+    public long taskStarted(long enqueuedNanos) {
+        long now = System.nanoTime();
+        queueWait.record(now - enqueuedNanos);
+        return now;
+    }
+
+    /**
+     * 任务执行结束，记录执行耗时
+     *
+     * @param startedNanos {@link #taskStarted(long)}的返回值
+     * @param success 是否正常完成（违规告警也算正常完成）
+     */
+    public void taskFinished(long startedNanos, boolean success) {
+        runTime.record(System.nanoTime() - startedNanos);
+        if (success) {
+            completed.increment();
+        } else {
+            failed.increment();
+        }
+    }
+
+    /**
+     * 成功入队的任务数
+     */
+    public long getSubmitted() {
+        return submitted.sum();
+    }
+
+    /**
+     * 队列满时由调用者线程执行的任务数
+     */
+    public long getCallerRuns() {
+        return callerRuns.sum();
+    }
+
+    public long getDroppedNewest() {
+        return droppedNewest.sum();
+    }
+
+    public long getDroppedOldest() {
+        return droppedOldest.sum();
+    }
+
+    public long getSampledOut() {
+        return sampledOut.sum();
+    }
+
+    /**
+     * 被丢弃的任务总数
+     */
+    public long getShed() {
+        return droppedNewest.sum() + droppedOldest.sum() + sampledOut.sum();
+    }
+
+    /**
+     * 内存队列满时写入落盘溢出队列的任务数
+     */
+    public long getSpilled() {
+        return spilled.sum();
+    }
+
+    /**
+     * 从落盘溢出队列重新投递的任务数（含重启后重放）
+     */
+    public long getReplayed() {
+        return replayed.sum();
+    }
+
+    public long getCompleted() {
+        return completed.sum();
+    }
+
+    /**
+     * 因技术异常失败的任务数
+     */
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    /**
+     * 入队时观察到的最大队列深度
+     */
+    public long getPeakQueueSize() {
+        return peakQueueSize.get();
+    }
+
+    public int getQueueSize() {
+        AsyncExecutionEngine current = engine;
+        return current != null ? current.queueSize() : 0;
+    }
+
+    public int getQueueCapacity() {
+        AsyncExecutionEngine current = engine;
+        return current != null ? current.queueCapacity() : 0;
+    }
+
+    public int getActiveCount() {
+        AsyncExecutionEngine current = engine;
+        return current != null ? current.activeCount() : 0;
+    }
+
+    /**
+     * 各道的排队深度、拒绝与淘汰计数，引擎不分道时为空
+     */
+    public List<LaneAsyncEngine.LaneStats> getLaneStats() {
+        AsyncExecutionEngine current = engine;
+        if (current instanceof LaneAsyncEngine) {
+            return ((LaneAsyncEngine) current).getLaneStats();
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * 排队等待时间（纳秒）累计快照
+     */
+    public LatencyHistogram.Snapshot getQueueWait() {
+        return queueWait.snapshot();
+    }
+
+    /**
+     * 执行耗时（纳秒）累计快照
+     */
+    public LatencyHistogram.Snapshot getRunTime() {
+        return runTime.snapshot();
+    }
+
+    /**
+     * 生成周期报告：计数为累计值，延迟分布为距上一次报告的区间值
+     */
+    public synchronized String intervalReport() {
+        LatencyHistogram.Snapshot wait = queueWait.snapshot();
+        LatencyHistogram.Snapshot run = runTime.snapshot();
+        String report = this + " queueWait[" + wait.since(lastQueueWait) + "] runTime[" + run.since(lastRunTime) + "]";
+        List<LaneAsyncEngine.LaneStats> lanes = getLaneStats();
+        if (!lanes.isEmpty()) {
+            report += " lanes" + lanes;
+        }
+        lastQueueWait = wait;
+        lastRunTime = run;
+        return report;
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncExecutorMetrics{submitted=" + getSubmitted()
+                + ", callerRuns=" + getCallerRuns()
+                + ", droppedNewest=" + getDroppedNewest()
+                + ", droppedOldest=" + getDroppedOldest()
+                + ", sampledOut=" + getSampledOut()
+                + ", spilled=" + getSpilled()
+                + ", replayed=" + getReplayed()
+                + ", completed=" + getCompleted()
+                + ", failed=" + getFailed()
+                + ", queue=" + getQueueSize() + "/" + getQueueCapacity()
+                + ", peakQueue=" + getPeakQueueSize()
+                + ", active=" + getActiveCount() + '}';
+    }
+}
@@ -1,32 +1,281 @@
-
 package com.acme.core.metadata.metric;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * 违规计数
+ * <p>
+ * 除全局计数外按 规则 + 键（可选再加prodId）分维度计数：
+ * <ul>
+ *   <li>每个维度一个LongAdder，热路径上只有一次Map查找和一次分段累加</li>
+ *   <li>维度数有上限，超出后新出现的维度合并计入other，防止异常键值撑爆内存</li>
+ *   <li>每60秒滚动一个窗口，记录窗口内次数和速率，输出窗口内违规最多的维度</li>
+ *   <li>设置告警阈值和回调后，窗口内次数达到阈值的维度在滚动时回调通知</li>
+ * </ul>
+ */
 public final class MetaViolationCounter {
-    private static final AtomicLong VIOL = new AtomicLong(0);
-    private static final AtomicLong BUG  = new AtomicLong(0);
+    private static final LongAdder VIOL = new LongAdder();
+    private static final LongAdder BUG  = new LongAdder();
     private static final Logger LOG = LoggerFactory.getLogger("MetaMetric");
+
+    /** 超出维度上限后合并计数使用的维度值 */
+    public static final String OTHER = "other";
+    private static final int WINDOW_SECONDS = 60;
+    private static final int TOP_N = 10;
+
+    private static final ConcurrentMap<String, Series> SERIES = new ConcurrentHashMap<>();
+    private static final Series OTHER_SERIES = new Series(OTHER, OTHER, null);
+    private static volatile int maxSeries = 1000;
+    private static volatile boolean productDimension;
+    private static volatile long alertThreshold;
+    private static volatile AlertListener alertListener;
+    private static long lastRollNanos = System.nanoTime();
+
     static {
         ScheduledThreadPoolExecutor exec = new ScheduledThreadPoolExecutor(1, r->{
             Thread t = new Thread(r,"meta-metric-flush");
             t.setDaemon(true);
             return t;
         });
-        exec.scheduleAtFixedRate(MetaViolationCounter::flush, 60, 60, TimeUnit.SECONDS);
+        exec.scheduleAtFixedRate(MetaViolationCounter::flush, WINDOW_SECONDS, WINDOW_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private MetaViolationCounter() {
+    }
+
+    public static void violation(){ VIOL.increment(); }
+    public static void bug(){ BUG.increment(); }
+
+    /**
+     * 按维度记录一次违规
+     *
+     * @param rule 规则名称，为null时记为unknown
+     * @param key 元数据键
+     * @param prodId 产品编码，未开启产品维度时忽略
+     */
+    public static void violation(String rule, String key, String prodId) {
+        VIOL.increment();
+        String r = rule != null ? rule : "unknown";
+        String p = productDimension ? prodId : null;
+        String id = p != null ? r + '|' + key + '|' + p : r + '|' + key;
+        Series series = SERIES.get(id);
+        if (series == null) {
+            series = SERIES.size() < maxSeries
+                    ? SERIES.computeIfAbsent(id, k -> new Series(r, key, p))
+                    : OTHER_SERIES;
+        }
+        series.count.increment();
+    }
+
+    /**
+     * 设置维度数上限，已存在的维度不受影响
+     */
+    public static void setMaxSeries(int max) {
+        if (max <= 0) {
+            throw new IllegalArgumentException("Max series must be positive: " + max);
+        }
+        maxSeries = max;
+    }
+
+    /**
+     * 是否按prodId细分维度
+     */
+    public static void setProductDimension(boolean enabled) {
+        productDimension = enabled;
     }
-    public static void violation(){ VIOL.incrementAndGet(); }
-    public static void bug(){ BUG.incrementAndGet(); }
-    private static void flush(){
-        long v = VIOL.getAndSet(0);
-        long b = BUG.getAndSet(0);
+
+    /**
+     * 设置窗口告警
+     *
+     * @param threshold 单个维度窗口内违规次数阈值，小于等于0表示关闭
+     * @param listener 告警回调，在计数滚动线程上执行，应尽快返回
+     */
+    public static void setAlert(long threshold, AlertListener listener) {
+        alertThreshold = threshold;
+        alertListener = listener;
+    }
+
+    /**
+     * 各维度当前计数，按最近一个窗口的次数倒序；other维度有计数时排在最后
+     */
+    public static List<ViolationStat> snapshot() {
+        List<ViolationStat> stats = new ArrayList<>(SERIES.size() + 1);
+        for (Series series : SERIES.values()) {
+            stats.add(series.stat());
+        }
+        stats.sort(Comparator.comparingLong(ViolationStat::getWindowCount).reversed());
+        if (OTHER_SERIES.count.sum() > 0) {
+            stats.add(OTHER_SERIES.stat());
+        }
+        return stats;
+    }
+
+    /**
+     * 滚动窗口：输出全局计数和窗口内违规最多的维度，对超过阈值的维度回调告警
+     */
+    static synchronized void flush(){
+        long v = VIOL.sumThenReset();
+        long b = BUG.sumThenReset();
         if (v>0 || b>0){
             LOG.warn("meta_violation_count={} meta_rule_bug_count={}", v, b);
         }
+
+        long now = System.nanoTime();
+        double seconds = Math.max(1e-3, (now - lastRollNanos) / 1e9);
+        lastRollNanos = now;
+        for (Series series : SERIES.values()) {
+            series.roll(seconds);
+        }
+        OTHER_SERIES.roll(seconds);
+
+        List<ViolationStat> stats = snapshot();
+        int logged = 0;
+        for (ViolationStat stat : stats) {
+            if (logged >= TOP_N) {
+                break;
+            }
+            if (stat.getWindowCount() > 0) {
+                LOG.warn("meta_violation {}", stat);
+                logged++;
+            }
+        }
+
+        long threshold = alertThreshold;
+        AlertListener listener = alertListener;
+        if (threshold > 0 && listener != null) {
+            for (ViolationStat stat : stats) {
+                if (stat.getWindowCount() >= threshold) {
+                    try {
+                        listener.onAlert(stat);
+                    } catch (RuntimeException e) {
+                        LOG.error("Violation alert listener failed: {}", e.getMessage(), e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 清空分维度计数
+     */
+    public static synchronized void reset() {
+        SERIES.clear();
+        OTHER_SERIES.count.reset();
+        OTHER_SERIES.lastTotal = 0;
+        OTHER_SERIES.windowCount = 0;
+        OTHER_SERIES.windowRate = 0;
+    }
+
+    /**
+     * 窗口告警回调
+     */
+    @FunctionalInterface
+    public interface AlertListener {
+
+        /**
+         * @param stat 窗口内违规次数达到阈值的维度
+         */
+        void onAlert(ViolationStat stat);
+    }
+
+    private static final class Series {
+        private final String rule;
+        private final String key;
+        private final String prodId;
+        private final LongAdder count = new LongAdder();
+        // 窗口数据只在滚动时写入
+        private long lastTotal;
+        private volatile long windowCount;
+        private volatile double windowRate;
+
+        Series(String rule, String key, String prodId) {
+            this.rule = rule;
+            this.key = key;
+            this.prodId = prodId;
+        }
+
+        void roll(double seconds) {
+            long total = count.sum();
+            windowCount = total - lastTotal;
+            windowRate = windowCount / seconds;
+            lastTotal = total;
+        }
+
+        ViolationStat stat() {
+            return new ViolationStat(rule, key, prodId, count.sum(), windowCount, windowRate);
+        }
+    }
+
+    /**
+     * 单个维度的计数快照
+     */
+    public static final class ViolationStat {
+        private final String rule;
+        private final String key;
+        private final String prodId;
+        private final long total;
+        private final long windowCount;
+        private final double windowRate;
+
+        ViolationStat(String rule, String key, String prodId, long total, long windowCount, double windowRate) {
+            this.rule = rule;
+            this.key = key;
+            this.prodId = prodId;
+            this.total = total;
+            this.windowCount = windowCount;
+            this.windowRate = windowRate;
+        }
+
+        public String getRule() {
+            return rule;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * 产品编码，未开启产品维度时为null
+         */
+        public String getProdId() {
+            return prodId;
+        }
+
+        /**
+         * 累计违规次数
+         */
+        public long getTotal() {
+            return total;
+        }
+
+        /**
+         * 最近一个完整窗口内的违规次数
+         */
+        public long getWindowCount() {
+            return windowCount;
+        }
+
+        /**
+         * 最近一个完整窗口内的每秒违规次数
+         */
+        public double getWindowRate() {
+            return windowRate;
+        }
+
+        @Override
+        public String toString() {
+            return "rule=" + rule + " key=" + key + (prodId != null ? " prodId=" + prodId : "")
+                    + " window=" + windowCount + " rate=" + String.format("%.2f", windowRate) + "/s total=" + total;
+        }
     }
 }
@@ -0,0 +1,154 @@
+package com.acme.core.metadata.metric;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 验证链路分阶段、分规则耗时统计
+ * <p>
+ * 阶段为 转换 -> 处理器链 -> 规则验证，规则按实现类简单类名区分，均记录到{@link LatencyHistogram}。
+ * 阶段耗时统一按单个监控单元记录：整批计时的阶段用{@link #stage(Stage, long, long, int)}按单元平均后计入，
+ * 批量、拦截和流式路径的阶段分布口径一致。
+ * 默认关闭，关闭时{@link #start()}返回0，各记录方法直接返回，热路径上只多一次volatile读；
+ * 开启后每次计时为两次System.nanoTime和一次无锁直方图记录。
+ * 直方图为进程级累计值，区间统计用快照的{@link LatencyHistogram.Snapshot#since}计算
+ */
+public final class ValidationTimings {
+
+    /**
+     * 验证阶段
+     */
+    public enum Stage {
+        /** DTO转换为监控单元 */
+        CONVERT,
+        /** 处理器链 */
+        PROCESS,
+        /** 规则验证（单元内全部键值） */
+        VALIDATE
+    }
+
+    private static final LatencyHistogram[] STAGES = new LatencyHistogram[Stage.values().length];
+    private static final ConcurrentMap<String, LatencyHistogram> RULES = new ConcurrentHashMap<>();
+    private static volatile boolean enabled;
+
+    static {
+        for (int i = 0; i < STAGES.length; i++) {
+            STAGES[i] = new LatencyHistogram();
+        }
+    }
+
+    private ValidationTimings() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 开启或关闭计时，已记录的数据保留
+     */
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    /**
+     * 开始计时
+     *
+     * @return 当前System.nanoTime()，未开启时返回0
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * 自{@link #start()}以来经过的纳秒数，未开启计时时返回0
+     */
+    public static long elapsed(long started) {
+        return started == 0 ? 0 : System.nanoTime() - started;
+    }
+
+    /**
+     * 记录阶段耗时
+     *
+     * @param started {@link #start()}的返回值，为0时不记录
+     */
+    public static void stage(Stage stage, long started) {
+        stage(stage, started, 0);
+    }
+
+    /**
+     * 记录阶段耗时，扣除期间嵌套执行的其他阶段耗时（流式转换时单元的处理和验证发生在转换内部）
+     *
+     * @param started {@link #start()}的返回值，为0时不记录
+     * @param nestedNanos 需要扣除的嵌套耗时
+     */
+    public static void stage(Stage stage, long started, long nestedNanos) {
+        if (started != 0) {
+            STAGES[stage.ordinal()].record(System.nanoTime() - started - nestedNanos);
+        }
+    }
+
+    /**
+     * 记录覆盖多个单元的阶段耗时，按单元平均后每个单元计一次
+     *
+     * @param started {@link #start()}的返回值，为0时不记录
+     * @param nestedNanos 需要扣除的嵌套耗时
+     * @param units 本次计时覆盖的单元数，未产出单元时按1个计
+     */
+    public static void stage(Stage stage, long started, long nestedNanos, int units) {
+        if (started != 0) {
+            int n = Math.max(1, units);
+            STAGES[stage.ordinal()].record((System.nanoTime() - started - nestedNanos) / n, n);
+        }
+    }
+
+    /**
+     * 获取规则的耗时直方图，不存在时创建；调用方应在初始化时获取并缓存
+     *
+     * @param rule 规则名称
+     */
+    public static LatencyHistogram rule(String rule) {
+        return RULES.computeIfAbsent(rule, k -> new LatencyHistogram());
+    }
+
+    /**
+     * 各阶段累计耗时快照
+     */
+    public static Map<Stage, LatencyHistogram.Snapshot> stageSnapshots() {
+        Map<Stage, LatencyHistogram.Snapshot> snapshots = new EnumMap<>(Stage.class);
+        for (Stage stage : Stage.values()) {
+            snapshots.put(stage, STAGES[stage.ordinal()].snapshot());
+        }
+        return snapshots;
+    }
+
+    /**
+     * 各规则累计耗时快照，按规则名称排序
+     */
+    public static Map<String, LatencyHistogram.Snapshot> ruleSnapshots() {
+        Map<String, LatencyHistogram.Snapshot> snapshots = new TreeMap<>();
+        for (Map.Entry<String, LatencyHistogram> entry : RULES.entrySet()) {
+            snapshots.put(entry.getKey(), entry.getValue().snapshot());
+        }
+        return snapshots;
+    }
+
+    /**
+     * 单行文本报告，包含各阶段和各规则的次数、均值、p50、p99和最大值
+     */
+    public static String report() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<Stage, LatencyHistogram.Snapshot> entry : stageSnapshots().entrySet()) {
+            sb.append("stage.").append(entry.getKey().name().toLowerCase(Locale.ROOT))
+                    .append("=[").append(entry.getValue()).append("] ");
+        }
+        for (Map.Entry<String, LatencyHistogram.Snapshot> entry : ruleSnapshots().entrySet()) {
+            sb.append("rule.").append(entry.getKey()).append("=[").append(entry.getValue()).append("] ");
+        }
+        return sb.toString().trim();
+    }
+}
@@ -10,7 +10,10 @@ import org.slf4j.LoggerFactory;
 
 public class ValidationContext {
     private static final Logger LOG = LoggerFactory.getLogger("MetaViolation");
+    private static final ThreadLocal<ViolationRecorder> RECORDER = new ThreadLocal<>();
     private final MetadataGuard.Mode mode;
+    private String key;
+    private String rule;
     private String userId;
     private String operateSystem;
     private String prodId;
@@ -18,6 +21,11 @@ public class ValidationContext {
     public ValidationContext(MetadataGuard.Mode mode){ this.mode = mode; }
     public MetadataGuard.Mode mode(){ return mode;}
 
+    public String key(){ return key; }
+    public void setKey(String key){ this.key = key; }
+    /** 当前执行的规则名称，由ValidationPipeline在调用每条规则前设置 */
+    public String rule(){ return rule; }
+    public void setRule(String rule){ this.rule = rule; }
     public String userId(){ return userId; }
     public void setUserId(String userId){ this.userId = userId; }
     public String operateSystem(){ return operateSystem; }
@@ -49,12 +57,38 @@ public class ValidationContext {
         }
     }
 
+    /**
+     * 绑定当前线程的违规记录器
+     * @param recorder 记录器，为null表示解除绑定
+     * @return 之前绑定的记录器，用于恢复
+     */
+    public static ViolationRecorder bindRecorder(ViolationRecorder recorder) {
+        ViolationRecorder previous = RECORDER.get();
+        if (recorder == null) {
+            RECORDER.remove();
+        } else {
+            RECORDER.set(recorder);
+        }
+        return previous;
+    }
+
+    /**
+     * 获取当前线程绑定的违规记录器
+     */
+    public static ViolationRecorder currentRecorder() {
+        return RECORDER.get();
+    }
+
     public void violate(String msg) throws MetaViolationException{
+        ViolationRecorder recorder = RECORDER.get();
+        if(recorder != null){
+            recorder.record(key, msg);
+        }
         if(mode==MetadataGuard.Mode.INTERCEPT){
             throw new MetaViolationException(msg);
         }else{
             LOG.warn(msg);
-            MetaViolationCounter.violation();
+            MetaViolationCounter.violation(rule, key, prodId);
         }
     }
 }
@@ -2,6 +2,8 @@
 package com.acme.core.metadata.rule;
 
 import com.acme.core.metadata.MetaViolationException;
+import com.acme.core.metadata.metric.LatencyHistogram;
+import com.acme.core.metadata.metric.ValidationTimings;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -9,6 +11,9 @@ import java.util.stream.Collectors;
 public class ValidationPipeline {
     private static final List<MetaValidationRule> RULES;
     private static final Map<String,List<MetaValidationRule>> FIELD_RULES;
+    // 与RULES按下标对应的规则名称和耗时直方图
+    private static final String[] RULE_NAMES;
+    private static final LatencyHistogram[] RULE_TIMINGS;
     static{
         ServiceLoader<MetaValidationRule> loader = ServiceLoader.load(MetaValidationRule.class);
         List<MetaValidationRule> ls = new ArrayList<>();
@@ -21,12 +26,32 @@ public class ValidationPipeline {
         });
         ls.sort(Comparator.comparingInt(MetaValidationRule::order));
         RULES = Collections.unmodifiableList(ls);
+        RULE_NAMES = new String[ls.size()];
+        RULE_TIMINGS = new LatencyHistogram[ls.size()];
+        for(int i=0;i<ls.size();i++){
+            RULE_NAMES[i] = ls.get(i).getClass().getSimpleName();
+            RULE_TIMINGS[i] = ValidationTimings.rule(RULE_NAMES[i]);
+        }
         FIELD_RULES = Collections.unmodifiableMap(map.entrySet().stream()
                 .collect(Collectors.toMap(Map.Entry::getKey,e->Collections.unmodifiableList(e.getValue()))));
     }
     public void validate(ValidationUnit unit) throws MetaViolationException{
-        for(MetaValidationRule r: RULES){
-            r.validate(unit);
+        ValidationContext ctx = unit.context();
+        if(!ValidationTimings.isEnabled()){
+            for(int i=0;i<RULES.size();i++){
+                ctx.setRule(RULE_NAMES[i]);
+                RULES.get(i).validate(unit);
+            }
+            return;
+        }
+        for(int i=0;i<RULES.size();i++){
+            ctx.setRule(RULE_NAMES[i]);
+            long start = System.nanoTime();
+            try{
+                RULES.get(i).validate(unit);
+            }finally{
+                RULE_TIMINGS[i].record(System.nanoTime()-start);
+            }
         }
     }
     public List<MetaValidationRule> rulesForField(String field){
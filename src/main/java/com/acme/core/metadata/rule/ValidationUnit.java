@@ -21,6 +21,7 @@ public class ValidationUnit {
         this.context.setUserId(unit.getUserId());
         this.context.setOperateSystem(unit.getOperateSystem());
         this.context.setProdId(unit.getProdId());
+        this.context.setKey(key);
     }
 
     public String key() { return key; }
@@ -0,0 +1,27 @@
+package com.acme.core.metadata.rule;
+
+import com.acme.core.metadata.collection.MetadataCollectionUnit;
+
+/**
+ * 违规记录器
+ * 通过{@link ValidationContext#bindRecorder(ViolationRecorder)}绑定到当前线程后，
+ * 规则产生的每条违规（无论告警还是拦截）都会回调记录器，用于生成结构化的验证报告
+ */
+public interface ViolationRecorder {
+    
+    /**
+     * 开始验证一个监控单元，后续违规归属于该单元
+     * 
+     * @param unit 经处理器链处理后的监控单元
+     */
+    default void beginUnit(MetadataCollectionUnit unit) {
+    }
+    
+    /**
+     * 记录一条违规
+     * 
+     * @param key 违规的元数据键
+     * @param message 违规信息
+     */
+    void record(String key, String message);
+}
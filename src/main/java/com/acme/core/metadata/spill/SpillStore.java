@@ -0,0 +1,406 @@
+package com.acme.core.metadata.spill;
+
+import com.acme.core.metadata.MetadataGuard;
+import com.acme.core.metadata.codec.UnitBinaryCodec;
+import com.acme.core.metadata.collection.MetadataCollectionUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * MONITOR异步验证的落盘溢出队列
+ * <p>
+ * 内存队列满时把转换后的监控单元编码后追加到本地内存映射分段文件，负载回落后再按写入顺序读出执行：
+ * <ul>
+ *   <li>每个分段固定大小，写满后滚动到新分段，分段数有上限，超出后拒绝写入由调用方按过载策略处理</li>
+ *   <li>记录先写数据后写长度，长度为0的位置即数据末尾，进程中途退出不会留下半条记录</li>
+ *   <li>记录执行完成后长度原地取负标记为已消费；重启时未标记的记录会被重新读出（至少一次）</li>
+ *   <li>分段内全部记录都已消费且不再写入时删除文件</li>
+ * </ul>
+ * 溢出路径调用频率低，所有操作在实例上同步
+ */
+public class SpillStore implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(SpillStore.class);
+
+    private static final String SUFFIX = ".seg";
+
+    private final File directory;
+    private final int segmentBytes;
+    private final int maxSegments;
+
+    // 按序号排列，最后一个为写入分段
+    private final Deque<SpillSegment> segments = new ArrayDeque<>();
+    // 已读出但投递失败、需要优先重新读出的批次
+    private final Deque<SpilledBatch> returned = new ArrayDeque<>();
+    private long nextSequence;
+    private long pending;
+    private boolean closed;
+
+    /**
+     * 打开溢出目录，已有分段中未消费的记录排在新写入的记录之前
+     *
+     * @param directory 分段文件目录，不存在时创建
+     * @param segmentBytes 单个分段文件大小
+     * @param maxSegments 分段数上限
+     */
+    public SpillStore(File directory, int segmentBytes, int maxSegments) throws IOException {
+        if (segmentBytes <= SpillSegment.HEADER_BYTES + 8 || maxSegments <= 0) {
+            throw new IllegalArgumentException("Segment size and max segments are too small");
+        }
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Cannot create spill directory: " + directory);
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.maxSegments = maxSegments;
+        recover();
+    }
+
+    private void recover() throws IOException {
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(SUFFIX));
+        if (files == null) {
+            return;
+        }
+        Arrays.sort(files);
+        for (File file : files) {
+            SpillSegment segment;
+            try {
+                segment = SpillSegment.open(file);
+            } catch (IOException | IllegalStateException e) {
+                log.warn("Skipping unreadable spill segment {}: {}", file.getName(), e.getMessage());
+                continue;
+            }
+            nextSequence = Math.max(nextSequence, segment.getSequence() + 1);
+            if (segment.isDrained()) {
+                segment.delete();
+                continue;
+            }
+            pending += segment.getUnreadCount();
+            segments.addLast(segment);
+        }
+        if (pending > 0) {
+            log.info("Recovered {} spilled batches from {} segments in {}", pending, segments.size(), directory);
+        }
+    }
+
+    /**
+     * 追加一批监控单元
+     *
+     * @return false表示已关闭、分段数已达上限、单条记录超过分段大小或写入失败
+     */
+    public synchronized boolean append(List<MetadataCollectionUnit> units, MetadataGuard.Mode mode) {
+        if (closed) {
+            return false;
+        }
+        byte[] payload = UnitBinaryCodec.encode(units);
+        if (!SpillSegment.fits(payload.length, segmentBytes)) {
+            log.warn("Spill record of {} bytes exceeds segment size {}", payload.length, segmentBytes);
+            return false;
+        }
+        try {
+            SpillSegment tail = segments.peekLast();
+            if (tail == null || tail.isSealed() || !tail.append(mode, payload)) {
+                if (tail != null) {
+                    tail.seal();
+                    removeDrained(tail);
+                }
+                if (segments.size() >= maxSegments) {
+                    return false;
+                }
+                SpillSegment segment = SpillSegment.create(new File(directory, fileName(nextSequence)), nextSequence, segmentBytes);
+                nextSequence++;
+                segments.addLast(segment);
+                segment.append(mode, payload);
+            }
+        } catch (IOException e) {
+            log.error("Failed to spill {} units: {}", units.size(), e.getMessage(), e);
+            return false;
+        }
+        pending++;
+        return true;
+    }
+
+    /**
+     * 按写入顺序读出下一批未消费的记录，执行完成后必须调用{@link #complete(SpilledBatch)}，
+     * 未执行就被放弃（投递失败或被移出队列）时必须调用{@link #unread(SpilledBatch)}
+     *
+     * @return 没有待读记录时返回null
+     */
+    public synchronized SpilledBatch poll() {
+        if (closed) {
+            return null;
+        }
+        SpilledBatch batch = returned.pollFirst();
+        if (batch != null) {
+            return batch;
+        }
+        for (SpillSegment segment : segments) {
+            batch = segment.readNext();
+            if (batch != null) {
+                pending--;
+                return batch;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 归还投递失败或未执行就被移出队列的批次，下次{@link #poll()}优先读出
+     */
+    public synchronized void unread(SpilledBatch batch) {
+        returned.addFirst(batch);
+    }
+
+    /**
+     * 标记批次已消费，所在分段全部消费完后删除
+     */
+    public synchronized void complete(SpilledBatch batch) {
+        if (closed) {
+            return;
+        }
+        SpillSegment segment = batch.getSegment();
+        segment.markConsumed(batch.getOffset());
+        removeDrained(segment);
+    }
+
+    private void removeDrained(SpillSegment segment) {
+        if (segment.isSealed() && segment.isDrained() && segments.remove(segment)) {
+            segment.delete();
+        }
+    }
+
+    /**
+     * 尚未读出的批次数
+     */
+    public synchronized long getPendingCount() {
+        return pending + returned.size();
+    }
+
+    public synchronized int getSegmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * 刷出映射内容并停止读写，未消费的记录在下次打开时重新读出
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (SpillSegment segment : new ArrayList<>(segments)) {
+            segment.force();
+        }
+        segments.clear();
+        returned.clear();
+    }
+
+    private static String fileName(long sequence) {
+        return String.format("spill-%016d%s", sequence, SUFFIX);
+    }
+
+    /**
+     * 读出的一批监控单元
+     */
+    public static final class SpilledBatch {
+        private final SpillSegment segment;
+        private final int offset;
+        private final MetadataGuard.Mode mode;
+        private final List<MetadataCollectionUnit> units;
+
+        SpilledBatch(SpillSegment segment, int offset, MetadataGuard.Mode mode, List<MetadataCollectionUnit> units) {
+            this.segment = segment;
+            this.offset = offset;
+            this.mode = mode;
+            this.units = units;
+        }
+
+        SpillSegment getSegment() {
+            return segment;
+        }
+
+        int getOffset() {
+            return offset;
+        }
+
+        public MetadataGuard.Mode getMode() {
+            return mode;
+        }
+
+        public List<MetadataCollectionUnit> getUnits() {
+            return units;
+        }
+    }
+
+    /**
+     * 单个内存映射分段
+     * 布局：魔数(4) 版本(4) 序号(8)，随后为 长度(4) 模式(1) 单元数据 的记录序列，长度为0表示末尾
+     */
+    static final class SpillSegment {
+
+        static final int HEADER_BYTES = 16;
+        private static final int MAGIC = 0x4D475350;  // "MGSP"
+        private static final int VERSION = 1;
+        private static final int RECORD_HEADER_BYTES = 5;
+
+        private final File file;
+        private final long sequence;
+        private final MappedByteBuffer buffer;
+        private int writePos;
+        private int readPos = HEADER_BYTES;
+        private int unread;
+        private int inFlight;
+        private boolean sealed;
+
+        private SpillSegment(File file, long sequence, MappedByteBuffer buffer, int writePos) {
+            this.file = file;
+            this.sequence = sequence;
+            this.buffer = buffer;
+            this.writePos = writePos;
+        }
+
+        static SpillSegment create(File file, long sequence, int size) throws IOException {
+            MappedByteBuffer buffer = map(file, size);
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putLong(8, sequence);
+            return new SpillSegment(file, sequence, buffer, HEADER_BYTES);
+        }
+
+        /**
+         * 打开已有分段，只用于读出，不再追加
+         */
+        static SpillSegment open(File file) throws IOException {
+            MappedByteBuffer buffer = map(file, (int) file.length());
+            if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IllegalStateException("bad header");
+            }
+            int pos = HEADER_BYTES;
+            int unread = 0;
+            while (pos + RECORD_HEADER_BYTES <= buffer.capacity()) {
+                int length = buffer.getInt(pos);
+                if (length == 0 || pos + RECORD_HEADER_BYTES + Math.abs(length) > buffer.capacity()) {
+                    break;
+                }
+                if (length > 0) {
+                    unread++;
+                }
+                pos += RECORD_HEADER_BYTES + Math.abs(length);
+            }
+            SpillSegment segment = new SpillSegment(file, buffer.getLong(8), buffer, pos);
+            segment.unread = unread;
+            segment.sealed = true;
+            return segment;
+        }
+
+        private static MappedByteBuffer map(File file, int size) throws IOException {
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                raf.setLength(size);
+                return raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+            }
+        }
+
+        long getSequence() {
+            return sequence;
+        }
+
+        /**
+         * 空分段能否容纳指定大小的记录
+         */
+        static boolean fits(int payloadBytes, int segmentBytes) {
+            return HEADER_BYTES + RECORD_HEADER_BYTES + (long) payloadBytes + 4 <= segmentBytes;
+        }
+
+        boolean append(MetadataGuard.Mode mode, byte[] payload) {
+            int end = writePos + RECORD_HEADER_BYTES + payload.length;
+            // 末尾至少保留一个长度字段的零值作为结束标记
+            if ((long) end + 4 > buffer.capacity()) {
+                return false;
+            }
+            ByteBuffer view = buffer.duplicate();
+            view.position(writePos + RECORD_HEADER_BYTES);
+            view.put(payload);
+            buffer.put(writePos + 4, (byte) (mode != null ? mode.ordinal() : MetadataGuard.Mode.MONITOR.ordinal()));
+            buffer.putInt(writePos, payload.length);  // 最后写长度，记录才算完整
+            writePos = end;
+            unread++;
+            return true;
+        }
+
+        SpilledBatch readNext() {
+            while (readPos < writePos) {
+                int offset = readPos;
+                int length = buffer.getInt(offset);
+                readPos += RECORD_HEADER_BYTES + Math.abs(length);
+                if (length < 0) {
+                    continue;  // 已消费
+                }
+                unread--;
+                ByteBuffer view = buffer.duplicate();
+                view.position(offset + RECORD_HEADER_BYTES);
+                view.limit(offset + RECORD_HEADER_BYTES + length);
+                inFlight++;
+                try {
+                    MetadataGuard.Mode mode = MetadataGuard.Mode.values()[buffer.get(offset + 4)];
+                    return new SpilledBatch(this, offset, mode, UnitBinaryCodec.decode(view.slice()));
+                } catch (RuntimeException e) {
+                    log.warn("Discarding corrupt spill record at {}:{}: {}", file.getName(), offset, e.getMessage());
+                    markConsumed(offset);
+                }
+            }
+            return null;
+        }
+
+        void markConsumed(int offset) {
+            int length = buffer.getInt(offset);
+            if (length > 0) {
+                buffer.putInt(offset, -length);
+                inFlight--;
+            }
+        }
+
+        int getUnreadCount() {
+            return unread;
+        }
+
+        /**
+         * 全部记录都已读出且执行完成
+         */
+        boolean isDrained() {
+            return inFlight == 0 && unread == 0;
+        }
+
+        boolean isSealed() {
+            return sealed;
+        }
+
+        void seal() {
+            sealed = true;
+            force();
+        }
+
+        void force() {
+            buffer.force();
+        }
+
+        void delete() {
+            if (!file.delete()) {
+                log.warn("Failed to delete drained spill segment {}", file.getName());
+            }
+        }
+    }
+}
@@ -21,7 +21,7 @@ public class AsyncValidationExample {
     
     public static void main(String[] args) throws Exception {
         // 初始化Spring上下文
-        ClassPathXmlApplicationContext context = new ClassPathXmlApplicationContext("applicationContext.xml");
+        ClassPathXmlApplicationContext context = new ClassPathXmlApplicationContext("demoContext.xml");
         MetadataValidator validator = context.getBean(MetadataValidator.class);
         
         // 准备测试数据
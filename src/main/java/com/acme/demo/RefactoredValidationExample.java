@@ -4,7 +4,6 @@ import com.acme.core.metadata.MetaViolationException;
 import com.acme.core.metadata.MetadataGuard;
 import com.acme.core.metadata.MetadataValidator;
 import com.acme.demo.converters.UserDataConverter;
-import com.acme.demo.converters.UserProfileConverter;
 import com.acme.demo.processors.CreditInfoProcessor;
 import com.acme.demo.processors.NestedFieldProcessor;
 import com.acme.demo.dto.Account;
@@ -28,18 +27,15 @@ public class RefactoredValidationExample {
     private MetadataValidator metadataValidator;
     
     /**
-     * 初始化转换器和处理器（通常在应用启动时完成）
+     * 初始化处理器（通常在应用启动时完成）
+     * 数据转换器已在demoContext.xml中注册
      */
     public void initialize() {
-        // 注册数据转换器
-        metadataValidator.registerConverter(new UserDataConverter());
-        metadataValidator.registerConverter(new UserProfileConverter());
-        
         // 注册监控单元处理器（按优先级顺序，优先级越小越先执行）
         metadataValidator.registerUnitProcessor(new CreditInfoProcessor());  // 优先级50，先执行creditExtInfo解码
         metadataValidator.registerUnitProcessor(new NestedFieldProcessor()); // 优先级100，后执行嵌套数据处理
         
-        System.out.println("转换器和处理器注册完成");
+        System.out.println("处理器注册完成");
     }
     
     /**
@@ -116,9 +112,9 @@ public class RefactoredValidationExample {
      */
     public void businessMethodA(Account account, CreditAccount creditAccount) {
         try {
-            // 新的极简调用方式：只能传入同一类型的列表
+            // 新的极简调用方式：只能传入同一类型的列表，转换器按DTO类型自动匹配
             List<Object> accountList = Arrays.asList(account);
-            metadataValidator.validate(accountList, UserDataConverter.class);
+            metadataValidator.validate(accountList);
             
             System.out.println("业务方法A验证完成");
         } catch (MetaViolationException e) {
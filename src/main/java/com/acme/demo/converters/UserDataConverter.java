@@ -1,24 +1,23 @@
 package com.acme.demo.converters;
 
 import com.acme.core.metadata.AbstractConverter;
-import com.acme.core.metadata.DataConverter;
+import com.acme.core.metadata.StreamingDataConverter;
 import com.acme.core.metadata.collection.MetadataCollectionUnit;
 import com.acme.demo.dto.Account;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 用户数据转换器
- * 处理单个Account对象
+ * 处理单个Account对象，每个Account对应一个单元，支持流式产出
  */
-public class UserDataConverter extends AbstractConverter {
+public class UserDataConverter extends AbstractConverter implements StreamingDataConverter {
     
     @Override
-    public List<MetadataCollectionUnit> convert(Object... args) {
-        List<MetadataCollectionUnit> units = new ArrayList<>();
-        
-        for (Object arg : args) {
+    public void stream(List<?> sources, UnitSink sink) throws Exception {
+        for (Object arg : sources) {
             if (arg instanceof Account) {
                 Account account = (Account) arg;
                 
@@ -38,13 +37,15 @@ public class UserDataConverter extends AbstractConverter {
                         unit.addMetadataField("user." + k, v));
                 }
                 
-                units.add(unit);
+                sink.accept(unit);
             }
         }
-        
-        return units;
     }
     
+    @Override
+    public Set<Class<?>> getSupportedTypes() {
+        return Collections.singleton(Account.class);
+    }
     
     @Override
     public String getDescription() {
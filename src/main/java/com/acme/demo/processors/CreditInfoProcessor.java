@@ -1,11 +1,17 @@
 package com.acme.demo.processors;
 
 import com.acme.core.metadata.AbstractUnitProcessor;
+import com.acme.core.metadata.codec.KeyValueTokenizer;
 import com.acme.core.metadata.collection.MetadataCollectionUnit;
 import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 信用信息处理器
@@ -18,6 +24,14 @@ import java.util.Map;
 public class CreditInfoProcessor extends AbstractUnitProcessor {
     
     private static final String FIELD_PATH_PREFIX = "extInfo.creditExtInfo";
+    
+    private static final Set<String> CONSUMED_KEYS = Collections.unmodifiableSet(
+            new HashSet<>(Arrays.asList("creditExtInfo", "extInfo.*")));
+    
+    public CreditInfoProcessor() {
+        // 相同的编码数据在同一用户/产品的请求间反复出现，解码为纯函数，开启记忆缓存
+        enableMemoization(10_000, 10, TimeUnit.MINUTES);
+    }
 
     @Override
     protected Map<String, Object> processSpecialFields(MetadataCollectionUnit unit) {
@@ -51,6 +65,11 @@ public class CreditInfoProcessor extends AbstractUnitProcessor {
         return FIELD_PATH_PREFIX;
     }
     
+    @Override
+    public Set<String> getConsumedKeyPatterns() {
+        return CONSUMED_KEYS;
+    }
+    
     @Override
     public int getOrder() {
         return 50; // 较高优先级，需要在嵌套处理器之前执行
@@ -62,12 +81,10 @@ public class CreditInfoProcessor extends AbstractUnitProcessor {
     }
     
     /**
-     * 检查是否是creditExtInfo相关字段
+     * 检查是否是creditExtInfo相关字段，与读取键模式描述同一组键
      */
     private boolean isCreditExtInfoField(String key) {
-        return key != null && (key.contains("creditExtInfo") || 
-                              key.startsWith("extInfo.") || 
-                              key.equals("creditExtInfo"));
+        return isConsumedKey(key);
     }
     
     /**
@@ -76,21 +93,9 @@ public class CreditInfoProcessor extends AbstractUnitProcessor {
     private Map<String, Object> decodeCreditExtInfo(Object creditExtInfo) {
         Map<String, Object> result = new HashMap<>();
 
-        if (creditExtInfo instanceof String) {
-            // 解析字符串格式的creditExtInfo（已被编码的数据）
-            String str = (String) creditExtInfo;
-            if (str.contains("vipLevel")) {
-                result.put("vipLevel", extractValue(str, "vipLevel"));
-            }
-            if (str.contains("creditScore")) {
-                result.put("creditScore", extractValue(str, "creditScore"));
-            }
-            if (str.contains("riskLevel")) {
-                result.put("riskLevel", extractValue(str, "riskLevel"));
-            }
-            if (str.contains("creditLimit")) {
-                result.put("creditLimit", extractValue(str, "creditLimit"));
-            }
+        if (creditExtInfo instanceof CharSequence) {
+            // 单次扫描解码编码后的creditExtInfo，输出全部键值对
+            KeyValueTokenizer.DEFAULT.decodeInto((CharSequence) creditExtInfo, result);
         } else if (creditExtInfo instanceof Map) {
             // 直接处理Map类型的creditExtInfo
             @SuppressWarnings("unchecked")
@@ -124,35 +129,4 @@ public class CreditInfoProcessor extends AbstractUnitProcessor {
         return value.getClass().getName().contains("CreditExtInfo");
     }
 
-
-    /**
-     * Mock的字符串值提取
-     */
-    private Object extractValue(String str, String key) {
-        // 简单的mock实现，实际会更复杂
-        String pattern = key + "=";
-        int startIndex = str.indexOf(pattern);
-        if (startIndex != -1) {
-            startIndex += pattern.length();
-            int endIndex = str.indexOf(",", startIndex);
-            if (endIndex == -1) {
-                endIndex = str.indexOf("}", startIndex);
-            }
-            if (endIndex == -1) {
-                endIndex = str.length();
-            }
-
-            String valueStr = str.substring(startIndex, endIndex).trim();
-
-            // 尝试转换为数字
-            try {
-                return Integer.parseInt(valueStr);
-            } catch (NumberFormatException e) {
-                return valueStr;
-            }
-        }
-
-        return null;
-    }
-
 }
\ No newline at end of file
@@ -4,8 +4,13 @@ import com.acme.core.metadata.AbstractUnitProcessor;
 import com.acme.core.metadata.collection.MetadataCollectionUnit;
 import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 嵌套字段处理器示例
@@ -18,6 +23,14 @@ public class NestedFieldProcessor extends AbstractUnitProcessor {
     
     private static final String FIELD_PATH_PREFIX = "extInfo.creditExtInfo.nested";
     
+    private static final Set<String> CONSUMED_KEYS = Collections.unmodifiableSet(
+            new HashSet<>(Arrays.asList("extInfo.creditExtInfo.riskLevel", "extInfo.creditExtInfo.vipLevel")));
+    
+    public NestedFieldProcessor() {
+        // 等级细分只取决于目标字段的取值，取值集合很小，缓存命中率高
+        enableMemoization(10_000, 10, TimeUnit.MINUTES);
+    }
+    
     @Override
     protected Map<String, Object> processSpecialFields(MetadataCollectionUnit unit) {
         Map<String, Object> result = new HashMap<>();
@@ -60,6 +73,11 @@ public class NestedFieldProcessor extends AbstractUnitProcessor {
         return FIELD_PATH_PREFIX;
     }
     
+    @Override
+    public Set<String> getConsumedKeyPatterns() {
+        return CONSUMED_KEYS;
+    }
+    
     @Override
     public int getOrder() {
         return 100; // 较低优先级，在CreditInfoProcessor之后执行
@@ -0,0 +1,95 @@
+package com.acme.core.metadata;
+
+import com.acme.core.metadata.async.NamedThreadFactory;
+import com.acme.core.metadata.async.ThreadPoolAsyncEngine;
+import com.acme.core.metadata.metric.AsyncExecutorMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncPoolTunerTest {
+
+    private ThreadPoolAsyncEngine engine;
+    private AsyncExecutorMetrics metrics;
+    private final AtomicReference<Double> cpu = new AtomicReference<>(0.1);
+
+    @BeforeEach
+    void setUp() {
+        engine = new ThreadPoolAsyncEngine(4, 8, 60, 100, new NamedThreadFactory("tuner-test-"));
+        metrics = new AsyncExecutorMetrics();
+        metrics.bindEngine(engine);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdownNow();
+    }
+
+    @Test
+    void highQueueWait_shouldGrowUntilThroughputStopsImproving() {
+        AsyncPoolTuner tuner = new AsyncPoolTuner(engine, metrics, cpu::get, 2, 16, 50, 0.85);
+        tuner.tick();
+
+        simulateWaits(200);
+        assertEquals(5, tuner.tick());
+        assertEquals(5, engine.getCorePoolSize());
+        assertEquals(8, engine.getMaxPoolSize());
+
+        // 扩容后吞吐没有提升，保持不变
+        simulateWaits(200);
+        assertEquals(5, tuner.tick());
+    }
+
+    @Test
+    void highCpu_shouldShrinkEvenWhenQueueWaitIsHigh() {
+        AsyncPoolTuner tuner = new AsyncPoolTuner(engine, metrics, cpu::get, 2, 16, 50, 0.85);
+        tuner.tick();
+
+        cpu.set(0.95);
+        simulateWaits(200);
+        assertEquals(3, tuner.tick());
+        assertEquals(3, engine.getCorePoolSize());
+    }
+
+    @Test
+    void idlePool_shouldShrinkToLowerLimit() {
+        AsyncPoolTuner tuner = new AsyncPoolTuner(engine, metrics, cpu::get, 2, 16, 50, 0.85);
+        tuner.tick();
+
+        assertEquals(3, tuner.tick());
+        assertEquals(2, tuner.tick());
+        assertEquals(2, tuner.tick());
+    }
+
+    @Test
+    void narrowedLimits_shouldClampPoolImmediately() {
+        AsyncPoolTuner tuner = new AsyncPoolTuner(engine, metrics, cpu::get, 1, 16, 50, 0.85);
+        tuner.setLimits(1, 3);
+        assertEquals(3, engine.getCorePoolSize());
+        assertEquals(3, engine.getMaxPoolSize());
+        assertThrows(IllegalArgumentException.class, () -> tuner.setLimits(4, 3));
+    }
+
+    @Test
+    void manualResize_shouldBecomeNewBaseline() {
+        AsyncPoolTuner tuner = new AsyncPoolTuner(engine, metrics, cpu::get, 2, 16, 50, 0.85);
+        tuner.resize(4, 12);
+        tuner.tick();
+
+        // 下一周期缩容时保留手动设置的max-pool-size
+        assertEquals(3, tuner.tick());
+        assertEquals(3, engine.getCorePoolSize());
+        assertEquals(12, engine.getMaxPoolSize());
+    }
+
+    private void simulateWaits(long waitMillis) {
+        for (int i = 0; i < 10; i++) {
+            metrics.taskStarted(System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(waitMillis));
+        }
+    }
+}
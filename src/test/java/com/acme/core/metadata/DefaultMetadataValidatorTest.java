@@ -0,0 +1,559 @@
+package com.acme.core.metadata;
+
+import com.acme.core.metadata.async.OverloadPolicy;
+import com.acme.core.metadata.collection.MetadataCollectionUnit;
+import com.acme.core.metadata.metric.AsyncExecutorMetrics;
+import com.acme.core.metadata.metric.LatencyHistogram;
+import com.acme.core.metadata.metric.ValidationTimings;
+import com.acme.core.metadata.registry.impl.DefaultMetadataRegistryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DefaultMetadataValidatorTest {
+
+    private DefaultMetadataValidator validator;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        validator = new DefaultMetadataValidator(null);
+        Field field = DefaultMetadataValidator.class.getDeclaredField("validator");
+        field.setAccessible(true);
+        field.set(validator, new DefaultUnifiedMetadataValidator(
+                new DefaultMetadataRegistryService(Duration.ofMinutes(5))));
+    }
+
+    @Test
+    void intercept_streamingConverterStopsAtFirstViolation() {
+        CountingConverter converter = new CountingConverter();
+        validator.registerConverter(converter);
+
+        List<Object> dtos = new ArrayList<>();
+        dtos.add(30);
+        dtos.add(500);  // 超出age区间0-120
+        for (int i = 0; i < 100; i++) {
+            dtos.add(40);
+        }
+
+        MetaViolationException e = assertThrows(MetaViolationException.class,
+                () -> validator.validate(dtos, CountingConverter.class, MetadataGuard.Mode.INTERCEPT));
+        assertTrue(e.getMessage().contains("500"));
+        assertEquals(2, converter.emitted.get());
+    }
+
+    @Test
+    void intercept_batchConverterStopsConvertingAtFirstViolation() {
+        VipLevelConverter converter = new VipLevelConverter();
+        validator.registerConverter(converter);
+
+        List<Object> dtos = new ArrayList<>();
+        dtos.add("3");
+        dtos.add("9");  // 不在vipLevel集合1-5内
+        for (int i = 0; i < 100; i++) {
+            dtos.add("4");
+        }
+
+        assertThrows(MetaViolationException.class,
+                () -> validator.validate(dtos, VipLevelConverter.class, MetadataGuard.Mode.INTERCEPT));
+        assertEquals(2, converter.converted.get());
+
+        // 未声明逐个转换的转换器仍整批转换一次
+        WholeCallConverter whole = new WholeCallConverter();
+        validator.registerConverter(whole);
+        assertThrows(MetaViolationException.class,
+                () -> validator.validate(dtos, WholeCallConverter.class, MetadataGuard.Mode.INTERCEPT));
+        assertEquals(Collections.singletonList(dtos.size()), whole.argCounts);
+    }
+
+    @Test
+    void intercept_chunkedValidationReportsLowestIndexViolation() throws Exception {
+        setField("interceptParallelEnabled", true);
+        setField("interceptParallelThreshold", 100);
+        setField("interceptChunkSize", 50);
+        setField("interceptParallelism", 4);
+        validator.initInterceptPool();
+        try {
+            CountingConverter converter = new CountingConverter();
+            validator.registerConverter(converter);
+
+            List<Object> dtos = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                dtos.add(30);
+            }
+            validator.validate(dtos, CountingConverter.class, MetadataGuard.Mode.INTERCEPT);
+            assertEquals(1000, converter.emitted.get());
+
+            // 靠后的分块可能先失败，结果仍取序号最小的违规
+            dtos.set(720, 500);
+            dtos.set(130, 600);
+            for (int round = 0; round < 20; round++) {
+                MetaViolationException e = assertThrows(MetaViolationException.class,
+                        () -> validator.validate(dtos, CountingConverter.class, MetadataGuard.Mode.INTERCEPT));
+                assertTrue(e.getMessage().contains("600"), e.getMessage());
+            }
+
+            // 分块池关闭后请求不会挂起，改为串行验证
+            validator.destroyInterceptPool();
+            MetaViolationException e = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertThrows(
+                    MetaViolationException.class,
+                    () -> validator.validate(dtos, CountingConverter.class, MetadataGuard.Mode.INTERCEPT)));
+            assertTrue(e.getMessage().contains("600"), e.getMessage());
+        } finally {
+            validator.destroyInterceptPool();
+        }
+    }
+
+    @Test
+    void timings_recordEachStageAndRule() throws Exception {
+        VipLevelConverter converter = new VipLevelConverter();
+        validator.registerConverter(converter);
+        List<Object> dtos = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            dtos.add(String.valueOf(i % 5 + 1));
+        }
+
+        CountingConverter streaming = new CountingConverter();
+        validator.registerConverter(streaming);
+
+        Map<ValidationTimings.Stage, LatencyHistogram.Snapshot> stages = ValidationTimings.stageSnapshots();
+        Map<String, LatencyHistogram.Snapshot> rules = ValidationTimings.ruleSnapshots();
+        ValidationTimings.setEnabled(true);
+        try {
+            validator.validate(dtos, VipLevelConverter.class, MetadataGuard.Mode.MONITOR);
+            validator.validate(dtos, VipLevelConverter.class, MetadataGuard.Mode.INTERCEPT);
+            validator.validate(Arrays.asList(30, 40, 50), CountingConverter.class, MetadataGuard.Mode.MONITOR);
+        } finally {
+            ValidationTimings.setEnabled(false);
+        }
+
+        // 批量、拦截和流式路径的阶段耗时都按单元记录，规则按键值逐次记录
+        Map<ValidationTimings.Stage, LatencyHistogram.Snapshot> stagesAfter = ValidationTimings.stageSnapshots();
+        for (ValidationTimings.Stage stage : ValidationTimings.Stage.values()) {
+            assertEquals(23, stagesAfter.get(stage).since(stages.get(stage)).getCount(), stage.name());
+        }
+        LatencyHistogram.Snapshot valueRange = ValidationTimings.ruleSnapshots().get("ValueRangeRule");
+        assertEquals(23, valueRange.since(rules.get("ValueRangeRule")).getCount());
+        assertTrue(ValidationTimings.report().contains("rule.ValueRangeRule="));
+
+        // 关闭后不再记录
+        validator.validate(dtos, VipLevelConverter.class, MetadataGuard.Mode.MONITOR);
+        assertEquals(valueRange.getCount(), ValidationTimings.ruleSnapshots().get("ValueRangeRule").getCount());
+    }
+
+    @Test
+    void timings_coverCallerExtractedAsyncPaths() throws Exception {
+        setField("asyncEnabled", true);
+        setField("corePoolSize", 1);
+        setField("maxPoolSize", 1);
+        setField("queueCapacity", 16);
+        setField("extractOnCaller", true);
+        validator.initAsyncExecutor();
+        validator.registerConverter(new VipLevelConverter());
+        List<Object> dtos = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            dtos.add(String.valueOf(i % 5 + 1));
+        }
+
+        Map<ValidationTimings.Stage, LatencyHistogram.Snapshot> stages = ValidationTimings.stageSnapshots();
+        ValidationTimings.setEnabled(true);
+        try {
+            // 批量、MONITOR异步和显式异步都在调用线程上转换，工作线程上只处理和验证
+            validator.validateBatch(dtos, MetadataGuard.Mode.MONITOR);
+            validator.validate(dtos, VipLevelConverter.class, MetadataGuard.Mode.MONITOR);
+            validator.validateAsync(dtos, VipLevelConverter.class, MetadataGuard.Mode.MONITOR, null)
+                    .get(5, TimeUnit.SECONDS);
+            validator.destroyAsyncExecutor();
+        } finally {
+            ValidationTimings.setEnabled(false);
+        }
+
+        assertEquals(3, validator.getAsyncMetrics().getCompleted());
+        Map<ValidationTimings.Stage, LatencyHistogram.Snapshot> stagesAfter = ValidationTimings.stageSnapshots();
+        for (ValidationTimings.Stage stage : ValidationTimings.Stage.values()) {
+            assertEquals(30, stagesAfter.get(stage).since(stages.get(stage)).getCount(), stage.name());
+        }
+    }
+
+    @Test
+    void monitor_streamingConverterValidatesAllUnits() throws Exception {
+        CountingConverter converter = new CountingConverter();
+        validator.registerConverter(converter);
+
+        List<Object> dtos = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            dtos.add(i == 10 ? 500 : 30);
+        }
+
+        validator.validate(dtos, CountingConverter.class, MetadataGuard.Mode.MONITOR);
+        assertEquals(50, converter.emitted.get());
+    }
+
+    @Test
+    void validate_resolvesConverterByDeclaredSuperType() throws Exception {
+        CountingConverter converter = new CountingConverter();
+        validator.registerConverter(converter);
+
+        List<Object> dtos = new ArrayList<>();
+        dtos.add(30);
+        dtos.add(40);
+        validator.validate(dtos, MetadataGuard.Mode.INTERCEPT);
+        assertEquals(2, converter.emitted.get());
+
+        // 未声明的类型：负结果被缓存，静默跳过
+        List<Object> strings = new ArrayList<>();
+        strings.add("not-a-number");
+        assertDoesNotThrow(() -> validator.validate(strings, MetadataGuard.Mode.INTERCEPT));
+        assertEquals(2, converter.emitted.get());
+    }
+
+    @Test
+    void converterFactory_rejectsDuplicateTypeDeclarations() {
+        ConverterFactory factory = new ConverterFactory();
+        factory.registerConverter(new CountingConverter());
+        assertSame(CountingConverter.class, factory.getConverterForType(Integer.class).getClass());
+        assertSame(CountingConverter.class, factory.getConverterForType(Long.class).getClass());
+        assertNull(factory.getConverterForType(String.class));
+
+        assertThrows(IllegalArgumentException.class, () -> factory.registerConverter(new StreamingDataConverter() {
+            @Override
+            public void stream(List<?> sources, UnitSink sink) {
+            }
+
+            @Override
+            public Set<Class<?>> getSupportedTypes() {
+                return Collections.singleton(Number.class);
+            }
+        }));
+
+        factory.removeConverter(CountingConverter.class);
+        assertNull(factory.getConverterForType(Integer.class));
+    }
+
+    @Test
+    void validateBatch_groupsMixedTypesByConverter() throws Exception {
+        CountingConverter numbers = new CountingConverter();
+        VipLevelConverter strings = new VipLevelConverter();
+        validator.registerConverter(numbers);
+        validator.registerConverter(strings);
+
+        List<Object> dtos = new ArrayList<>();
+        dtos.add(30);
+        dtos.add("3");
+        dtos.add(40L);
+        dtos.add("5");
+        dtos.add(50);
+        validator.validateBatch(dtos, MetadataGuard.Mode.INTERCEPT);
+
+        assertEquals(3, numbers.emitted.get());
+        assertEquals(2, strings.converted.get());
+
+        dtos.add("9");  // 不在vipLevel集合1-5内
+        assertThrows(MetaViolationException.class, () -> validator.validateBatch(dtos, MetadataGuard.Mode.INTERCEPT));
+    }
+
+    @Test
+    void monitorAsync_overloadPoliciesShedWithoutRunningOnCaller() throws Exception {
+        for (OverloadPolicy policy : new OverloadPolicy[]{OverloadPolicy.DROP_NEWEST, OverloadPolicy.DROP_OLDEST}) {
+            setUp();
+            setField("asyncEnabled", true);
+            setField("corePoolSize", 1);
+            setField("maxPoolSize", 1);
+            setField("queueCapacity", 2);
+            setField("asyncEngineType", "thread-pool");
+            setField("overloadPolicy", policy);
+            validator.initAsyncExecutor();
+            BlockingConverter converter = new BlockingConverter();
+            validator.registerConverter(converter);
+
+            List<Object> dtos = Collections.singletonList(30);
+            validator.validate(dtos, BlockingConverter.class, MetadataGuard.Mode.MONITOR);
+            assertTrue(converter.started.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 5; i++) {
+                validator.validate(dtos, BlockingConverter.class, MetadataGuard.Mode.MONITOR);
+            }
+            // 队列满后调用线程没有执行任何验证
+            assertEquals(1, converter.calls.get());
+
+            AsyncExecutorMetrics metrics = validator.getAsyncMetrics();
+            assertEquals(0, metrics.getCallerRuns());
+            assertEquals(3, metrics.getShed(), policy.name());
+            assertEquals(policy == OverloadPolicy.DROP_OLDEST ? 6 : 3, metrics.getSubmitted());
+
+            assertEquals(2, metrics.getQueueSize());
+            assertEquals(2, metrics.getPeakQueueSize());
+            assertEquals(1, metrics.getActiveCount());
+
+            converter.release.countDown();
+            validator.destroyAsyncExecutor();
+            assertEquals(3, converter.calls.get());
+            assertEquals(3, metrics.getCompleted());
+            assertEquals(3, metrics.getQueueWait().getCount());
+            assertEquals(3, metrics.getRunTime().getCount());
+        }
+    }
+
+    @Test
+    void monitorAsync_dropOldestNeverDiscardsExplicitTasks() throws Exception {
+        setField("asyncEnabled", true);
+        setField("corePoolSize", 1);
+        setField("maxPoolSize", 1);
+        setField("queueCapacity", 2);
+        setField("asyncEngineType", "thread-pool");
+        setField("overloadPolicy", OverloadPolicy.DROP_OLDEST);
+        validator.initAsyncExecutor();
+        BlockingConverter blocking = new BlockingConverter();
+        validator.registerConverter(blocking);
+        validator.registerConverter(new CountingConverter());
+        try {
+            List<Object> dtos = Collections.singletonList(30);
+            validator.validate(dtos, BlockingConverter.class, MetadataGuard.Mode.MONITOR);
+            assertTrue(blocking.started.await(5, TimeUnit.SECONDS));
+
+            // 显式任务排在队首，随后MONITOR任务占满队列并触发淘汰
+            CompletableFuture<ValidationReport> future = validator.validateAsync(
+                    Collections.singletonList(500), null, MetadataGuard.Mode.MONITOR, null);
+            for (int i = 0; i < 3; i++) {
+                validator.validate(dtos, BlockingConverter.class, MetadataGuard.Mode.MONITOR);
+            }
+
+            ValidationReport report = future.get(5, TimeUnit.SECONDS);
+            assertEquals(1, report.getViolationCount());
+            AsyncExecutorMetrics metrics = validator.getAsyncMetrics();
+            assertEquals(1, metrics.getCallerRuns());
+            assertEquals(1, blocking.calls.get());
+        } finally {
+            blocking.release.countDown();
+            validator.destroyAsyncExecutor();
+        }
+    }
+
+    @Test
+    void validateAsync_futureCarriesPerUnitReport() throws Exception {
+        setField("asyncEnabled", true);
+        setField("corePoolSize", 1);
+        setField("maxPoolSize", 1);
+        setField("queueCapacity", 16);
+        validator.initAsyncExecutor();
+        validator.registerConverter(new CountingConverter());
+        ExecutorService callbacks = Executors.newSingleThreadExecutor(r -> new Thread(r, "report-callback"));
+        try {
+            CompletableFuture<String> thread = new CompletableFuture<>();
+            ValidationReport report = validator.validateAsync(Arrays.asList(30, 500, 40, 600), null,
+                    MetadataGuard.Mode.MONITOR, callbacks)
+                    .whenComplete((r, e) -> thread.complete(Thread.currentThread().getName()))
+                    .get(5, TimeUnit.SECONDS);
+
+            assertEquals("report-callback", thread.get(5, TimeUnit.SECONDS));
+            assertEquals(4, report.getUnits().size());
+            assertEquals(2, report.getViolationCount());
+            assertTrue(report.getUnits().get(0).isPassed());
+            ValidationReport.KeyResult age = report.getUnits().get(1).getKey("age");
+            assertFalse(age.isPassed());
+            assertTrue(age.getMessages().get(0).contains("500"));
+            assertTrue(report.getUnits().get(3).getKey("age").getMessages().get(0).contains("600"));
+
+            CompletableFuture<ValidationReport> intercepted = validator.validateAsync(
+                    Arrays.asList(30, 500, 40), MetadataGuard.Mode.INTERCEPT);
+            ExecutionException e = assertThrows(ExecutionException.class, () -> intercepted.get(5, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof MetaViolationException);
+        } finally {
+            callbacks.shutdownNow();
+            validator.destroyAsyncExecutor();
+        }
+    }
+
+    @Test
+    void extractOnCaller_queuesConvertedUnitsInsteadOfDtos() throws Exception {
+        setField("asyncEnabled", true);
+        setField("corePoolSize", 1);
+        setField("maxPoolSize", 1);
+        setField("queueCapacity", 16);
+        setField("extractOnCaller", true);
+        validator.initAsyncExecutor();
+        CountingConverter converter = new CountingConverter();
+        validator.registerConverter(converter);
+        try {
+            List<Object> dtos = new ArrayList<>(Arrays.asList(30, 500));
+            CompletableFuture<ValidationReport> future = validator.validateAsync(dtos, MetadataGuard.Mode.MONITOR);
+            // 返回前已在调用线程完成转换
+            assertEquals(2, converter.emitted.get());
+
+            // 调用方随后修改DTO不影响已入队的验证
+            dtos.set(1, 40);
+            ValidationReport report = future.get(5, TimeUnit.SECONDS);
+            assertEquals(1, report.getViolationCount());
+            assertTrue(report.getUnits().get(1).getKey("age").getMessages().get(0).contains("500"));
+        } finally {
+            validator.destroyAsyncExecutor();
+        }
+    }
+
+    @Test
+    void monitorAsync_spillsOverflowToDiskAndReplaysWhenQueueDrains(@TempDir File spillDir) throws Exception {
+        setField("asyncEnabled", true);
+        setField("corePoolSize", 1);
+        setField("maxPoolSize", 1);
+        setField("queueCapacity", 2);
+        setField("overloadPolicy", OverloadPolicy.DROP_NEWEST);
+        setField("spillEnabled", true);
+        setField("spillDirectory", spillDir.getPath());
+        setField("spillSegmentSizeMb", 1);
+        setField("spillMaxSegments", 2);
+        setField("spillDrainIntervalMillis", 20L);
+        validator.initAsyncExecutor();
+        CountingConverter converter = new CountingConverter();
+        validator.registerConverter(converter);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            // 回调阻塞唯一的工作线程
+            validator.validateAsync(Collections.singletonList(30), null, new AsyncValidationCallback() {
+                @Override
+                public void onSuccess(int validatedCount) {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+
+                @Override
+                public void onFailure(Exception exception, int failedCount) {
+                }
+            });
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 6; i++) {
+                validator.validate(Collections.singletonList(40 + i), MetadataGuard.Mode.MONITOR);
+            }
+            AsyncExecutorMetrics metrics = validator.getAsyncMetrics();
+            assertEquals(4, metrics.getSpilled());
+            assertEquals(0, metrics.getShed());
+
+            release.countDown();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (metrics.getCompleted() < 7) {
+                assertTrue(System.nanoTime() < deadline, "spilled work was not replayed: " + metrics);
+                Thread.sleep(10);
+            }
+            assertEquals(4, metrics.getReplayed());
+            assertEquals(7, converter.emitted.get());
+        } finally {
+            release.countDown();
+            validator.destroyAsyncExecutor();
+        }
+    }
+
+    private void setField(String name, Object value) throws Exception {
+        Field field = DefaultMetadataValidator.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(validator, value);
+    }
+
+    /**
+     * 首次转换阻塞直到放行，用于占满异步队列；不声明DTO类型，只能显式指定
+     */
+    static class BlockingConverter implements StreamingDataConverter {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public void stream(List<?> sources, UnitSink sink) throws Exception {
+            calls.incrementAndGet();
+            started.countDown();
+            release.await();
+        }
+    }
+
+    /**
+     * 将String转换为仅含vipLevel字段的单元（非流式）
+     */
+    static class VipLevelConverter implements DataConverter {
+        final AtomicInteger converted = new AtomicInteger();
+
+        @Override
+        public List<MetadataCollectionUnit> convert(Object... args) {
+            List<MetadataCollectionUnit> units = new ArrayList<>();
+            for (Object arg : args) {
+                MetadataCollectionUnit unit = new MetadataCollectionUnit();
+                unit.addMetadataField("vipLevel", arg);
+                units.add(unit);
+                converted.incrementAndGet();
+            }
+            return units;
+        }
+
+        @Override
+        public boolean isElementWise() {
+            return true;
+        }
+
+        @Override
+        public Set<Class<?>> getSupportedTypes() {
+            return Collections.singleton(String.class);
+        }
+    }
+
+    /**
+     * 整次调用只产出一个单元，vipLevel取参数中的最大值，记录每次调用的参数个数
+     */
+    static class WholeCallConverter implements DataConverter {
+        final List<Integer> argCounts = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public List<MetadataCollectionUnit> convert(Object... args) {
+            argCounts.add(args.length);
+            String max = "0";
+            for (Object arg : args) {
+                if (arg.toString().compareTo(max) > 0) {
+                    max = arg.toString();
+                }
+            }
+            MetadataCollectionUnit unit = new MetadataCollectionUnit();
+            unit.addMetadataField("vipLevel", max);
+            return Collections.singletonList(unit);
+        }
+    }
+
+    /**
+     * 每个Number产出一个仅含age字段的单元，并统计产出数量
+     */
+    static class CountingConverter implements StreamingDataConverter {
+        final AtomicInteger emitted = new AtomicInteger();
+
+        @Override
+        public Set<Class<?>> getSupportedTypes() {
+            return Collections.singleton(Number.class);
+        }
+
+        @Override
+        public void stream(List<?> sources, UnitSink sink) throws Exception {
+            for (Object source : sources) {
+                MetadataCollectionUnit unit = new MetadataCollectionUnit();
+                unit.addMetadataField("age", source);
+                emitted.incrementAndGet();
+                sink.accept(unit);
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.acme.core.metadata.async;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class BoundedExecutorEngineTest {
+
+    @Test
+    void forkJoin_shouldBoundPendingTasksAndDrainOnShutdown() throws Exception {
+        assertBoundedEngine(new ForkJoinAsyncEngine(1, 3, "fj-test-"));
+    }
+
+    @Test
+    void virtualThread_shouldBoundInFlightTasks() throws Exception {
+        assumeTrue(VirtualThreadAsyncEngine.isSupported(), "requires a Java 21+ runtime");
+        VirtualThreadAsyncEngine engine = new VirtualThreadAsyncEngine(2, "vt-test-");
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger done = new AtomicInteger();
+        Runnable blocked = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            done.incrementAndGet();
+        };
+        assertTrue(engine.offer(blocked));
+        assertTrue(engine.offer(blocked));
+        waitUntil(() -> engine.activeCount() == 2);
+        // 虚拟线程不排队，但在途任务仍受容量约束
+        assertEquals(0, engine.queueSize());
+        assertFalse(engine.offer(blocked));
+
+        release.countDown();
+        engine.shutdown();
+        assertTrue(engine.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(2, done.get());
+    }
+
+    @Test
+    void threadPerTaskExecutor_shouldHoldCapacityUntilTasksFinish() throws Exception {
+        // 不排队的执行器（与虚拟线程执行器相同），任务开始执行后名额仍被占用
+        BoundedExecutorEngine engine = new BoundedExecutorEngine(Executors.newCachedThreadPool(), 2) {
+            @Override
+            public String getName() {
+                return "cached";
+            }
+        };
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger done = new AtomicInteger();
+        Runnable blocked = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            done.incrementAndGet();
+        };
+        assertTrue(engine.offer(blocked));
+        assertTrue(engine.offer(blocked));
+        waitUntil(() -> engine.activeCount() == 2);
+        assertEquals(0, engine.queueSize());
+        assertFalse(engine.offer(blocked));
+
+        release.countDown();
+        waitUntil(() -> done.get() == 2);
+        waitUntil(() -> engine.offer(done::incrementAndGet));
+        engine.shutdown();
+        assertTrue(engine.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(3, done.get());
+    }
+
+    private static void assertBoundedEngine(AsyncExecutionEngine engine) throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger done = new AtomicInteger();
+        assertTrue(engine.offer(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            done.incrementAndGet();
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        waitUntil(() -> engine.queueSize() == 0);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(engine.offer(done::incrementAndGet));
+        }
+        assertFalse(engine.offer(done::incrementAndGet));
+        assertEquals(3, engine.queueSize());
+        assertEquals(1, engine.activeCount());
+        assertNull(engine.pollOldest());
+
+        release.countDown();
+        engine.shutdown();
+        assertTrue(engine.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(4, done.get());
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met in time");
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.acme.core.metadata.async;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LaneAsyncEngineTest {
+
+    @Test
+    void noisyLane_shouldNotStarveOtherLanes() throws Exception {
+        LaneAsyncEngine engine = new LaneAsyncEngine(1, 4, 8, new NamedThreadFactory("lane-test-"));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        assertTrue(engine.offer("noisy", () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // 积压的道只占满自己的容量
+        for (int i = 0; i < 4; i++) {
+            int n = i;
+            assertTrue(engine.offer("noisy", () -> order.add("noisy-" + n)));
+        }
+        assertFalse(engine.offer("noisy", () -> order.add("noisy-rejected")));
+        assertTrue(engine.offer("quiet", () -> order.add("quiet-0")));
+        assertEquals(4, engine.queueSize("noisy"));
+        assertEquals(1, engine.queueSize("quiet"));
+        assertEquals(4, engine.queueCapacity("noisy"));
+        assertEquals(5, engine.queueSize());
+
+        // 按道淘汰只影响本道
+        assertNull(engine.pollOldest("quiet-unknown"));
+        assertNotNull(engine.pollOldest("noisy"));
+
+        release.countDown();
+        engine.shutdown();
+        assertTrue(engine.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(4, order.size());
+        assertFalse(order.contains("noisy-0"));
+        assertTrue(order.indexOf("quiet-0") <= 1, "quiet lane should be served within one round: " + order);
+
+        LaneAsyncEngine.LaneStats noisy = stats(engine, "noisy");
+        assertEquals(5, noisy.getAccepted());
+        assertEquals(1, noisy.getRejected());
+        assertEquals(1, noisy.getEvicted());
+        assertEquals(4, noisy.getCompleted());
+        assertEquals(0, noisy.getQueueSize());
+        assertEquals(1, stats(engine, "quiet").getCompleted());
+    }
+
+    @Test
+    void lanesBeyondLimit_shouldShareOverflowLane() throws Exception {
+        LaneAsyncEngine engine = new LaneAsyncEngine(2, 10, 3, new NamedThreadFactory("lane-test-"));
+        CountDownLatch done = new CountDownLatch(5);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(engine.offer("p" + i, done::countDown));
+        }
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(4, engine.getLaneStats().size());
+        assertEquals(2, stats(engine, LaneAsyncEngine.OVERFLOW_LANE).getAccepted());
+
+        engine.shutdown();
+        assertTrue(engine.awaitTermination(5, TimeUnit.SECONDS));
+        assertFalse(engine.offer("p0", () -> { }));
+    }
+
+    @Test
+    void priorityLane_shouldBeServedAheadOfBackloggedLanes() throws Exception {
+        LaneAsyncEngine engine = new LaneAsyncEngine(1, 10, 8, 2, 4, new NamedThreadFactory("lane-test-"));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        assertTrue(engine.offer(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        for (int i = 0; i < 6; i++) {
+            int n = i;
+            assertTrue(engine.offer("p" + (i % 2), () -> order.add("monitor-" + n)));
+        }
+        assertTrue(engine.offerPriority(() -> order.add("callback-0")));
+        assertTrue(engine.offerPriority(() -> order.add("callback-1")));
+        // 优先道独立计容量，MONITOR积压不占用
+        assertFalse(engine.offerPriority(() -> order.add("callback-rejected")));
+
+        release.countDown();
+        engine.shutdown();
+        assertTrue(engine.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(8, order.size());
+        assertEquals("callback-0", order.get(0));
+        assertEquals("callback-1", order.get(1));
+        assertEquals(1, stats(engine, LaneAsyncEngine.PRIORITY_LANE).getRejected());
+    }
+
+    @Test
+    void shutdown_shouldRunEveryAcceptedTaskWhileProducersRace() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            LaneAsyncEngine engine = new LaneAsyncEngine(2, 1024, 4, 64, 2, new NamedThreadFactory("lane-race-"));
+            AtomicLong accepted = new AtomicLong();
+            AtomicLong completed = new AtomicLong();
+            CountDownLatch done = new CountDownLatch(3);
+            for (int p = 0; p < 3; p++) {
+                String lane = "P" + p;
+                new Thread(() -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        boolean ok = i % 10 == 0
+                                ? engine.offerPriority(completed::incrementAndGet)
+                                : engine.offer(lane, completed::incrementAndGet);
+                        if (ok) {
+                            accepted.incrementAndGet();
+                        }
+                    }
+                    done.countDown();
+                }).start();
+            }
+            engine.shutdown();
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertTrue(engine.awaitTermination(10, TimeUnit.SECONDS));
+            assertEquals(accepted.get(), completed.get(), "round " + round);
+        }
+    }
+    
+    private static LaneAsyncEngine.LaneStats stats(LaneAsyncEngine engine, String key) {
+        for (LaneAsyncEngine.LaneStats stats : engine.getLaneStats()) {
+            if (stats.getKey().equals(key)) {
+                return stats;
+            }
+        }
+        throw new AssertionError("lane not found: " + key);
+    }
+}
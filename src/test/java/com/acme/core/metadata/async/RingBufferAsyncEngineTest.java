@@ -0,0 +1,102 @@
+package com.acme.core.metadata.async;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingBufferAsyncEngineTest {
+
+    @Test
+    void offer_shouldRunEveryTaskExactlyOnceUnderContention() throws Exception {
+        for (WaitStrategy strategy : WaitStrategy.values()) {
+            RingBufferAsyncEngine engine = new RingBufferAsyncEngine(
+                    256, 3, 16, strategy, new NamedThreadFactory("ring-test-"));
+            int producers = 4;
+            int perProducer = 5_000;
+            AtomicIntegerArray runs = new AtomicIntegerArray(producers * perProducer);
+            CountDownLatch done = new CountDownLatch(producers);
+            for (int p = 0; p < producers; p++) {
+                int base = p * perProducer;
+                new Thread(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        int id = base + i;
+                        while (!engine.offer(() -> runs.incrementAndGet(id))) {
+                            Thread.yield();
+                        }
+                    }
+                    done.countDown();
+                }).start();
+            }
+            assertTrue(done.await(30, TimeUnit.SECONDS));
+            engine.shutdown();
+            assertTrue(engine.awaitTermination(30, TimeUnit.SECONDS), strategy.name());
+            for (int i = 0; i < runs.length(); i++) {
+                assertEquals(1, runs.get(i), strategy + " task " + i);
+            }
+            assertEquals(0, engine.queueSize());
+        }
+    }
+
+    @Test
+    void offer_shouldRejectWhenFullOrShutDown() throws Exception {
+        RingBufferAsyncEngine engine = new RingBufferAsyncEngine(
+                3, 1, 4, WaitStrategy.BLOCKING, new NamedThreadFactory("ring-full-"));
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicLong completed = new AtomicLong();
+        assertEquals(4, engine.queueCapacity());
+
+        assertTrue(engine.offer(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            completed.incrementAndGet();
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 4; i++) {
+            assertTrue(engine.offer(completed::incrementAndGet));
+        }
+        assertFalse(engine.offer(completed::incrementAndGet));
+        assertEquals(4, engine.queueSize());
+        assertEquals(1, engine.activeCount());
+
+        engine.shutdown();
+        assertFalse(engine.offer(completed::incrementAndGet));
+        release.countDown();
+        assertTrue(engine.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(5, completed.get());
+    }
+
+    @Test
+    void shutdown_shouldRunEveryAcceptedTaskWhileProducersRace() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            RingBufferAsyncEngine engine = new RingBufferAsyncEngine(
+                    1024, 2, 8, WaitStrategy.BLOCKING, new NamedThreadFactory("ring-race-"));
+            AtomicLong accepted = new AtomicLong();
+            AtomicLong completed = new AtomicLong();
+            CountDownLatch done = new CountDownLatch(3);
+            for (int p = 0; p < 3; p++) {
+                new Thread(() -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        if (engine.offer(completed::incrementAndGet)) {
+                            accepted.incrementAndGet();
+                        }
+                    }
+                    done.countDown();
+                }).start();
+            }
+            engine.shutdown();
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertTrue(engine.awaitTermination(10, TimeUnit.SECONDS));
+            assertEquals(accepted.get(), completed.get(), "round " + round);
+        }
+    }
+}
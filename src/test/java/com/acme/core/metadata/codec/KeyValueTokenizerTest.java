@@ -0,0 +1,47 @@
+package com.acme.core.metadata.codec;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyValueTokenizerTest {
+
+    @Test
+    void toMap_shouldEmitAllPairsAndParseNumbers() {
+        Map<String, Object> map = KeyValueTokenizer.DEFAULT.toMap(
+                "{ vipLevel=5, creditScore = 750 ,riskLevel=low,unknownKey=x,big=9999999999,neg=-3}");
+
+        assertEquals(6, map.size());
+        assertEquals(5, map.get("vipLevel"));
+        assertEquals(750, map.get("creditScore"));
+        assertEquals("low", map.get("riskLevel"));
+        assertEquals("x", map.get("unknownKey"));
+        assertEquals(9999999999L, map.get("big"));
+        assertEquals(-3, map.get("neg"));
+    }
+
+    @Test
+    void toMap_shouldKeepNestedSeparatorsInsideValues() {
+        Map<String, Object> map = KeyValueTokenizer.DEFAULT.toMap(
+                "riskLevel=LOW,factors=[income,asset],inner={a=1,b=2},score=85");
+
+        assertEquals("[income,asset]", map.get("factors"));
+        assertEquals("{a=1,b=2}", map.get("inner"));
+        assertEquals(85, map.get("score"));
+        assertEquals(4, map.size());
+    }
+
+    @Test
+    void tokenize_shouldSkipMalformedSegmentsAndTreatOverflowAsText() {
+        Map<String, Object> map = new KeyValueTokenizer(';', ':').toMap(
+                "flag;=empty;a:1;b:+;c:99999999999999999999;d:");
+
+        assertEquals(1, map.get("a"));
+        assertEquals("+", map.get("b"));
+        assertEquals("99999999999999999999", map.get("c"));
+        assertEquals("", map.get("d"));
+        assertEquals(4, map.size());
+    }
+}
@@ -0,0 +1,121 @@
+package com.acme.core.metadata.extension;
+
+import com.acme.core.metadata.registry.impl.DefaultMetadataRegistryService;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HardcodedDataProcessorTest {
+
+    @Test
+    void processHardcodedData_shouldUseCompiledExpressionsByDefault() {
+        Map<String, String> mappings = new LinkedHashMap<>();
+        mappings.put("A", "Str[0]");
+        mappings.put("C", "Str[5]");
+        HardcodedDataProcessor processor = new HardcodedDataProcessor();
+        processor.registerMappingConfig("dtoA", new HardcodedMappingConfig("dtoA", mappings));
+
+        Map<String, Object> result = processor.processHardcodedData(new String[]{"x", "y"}, "dtoA");
+
+        assertEquals(Collections.singletonMap("dtoA.A", "x"), result);
+        assertTrue(processor.supportsHardcodedData("dtoA"));
+    }
+
+    @Test
+    void evaluate_shouldWalkNestedPathsAndMapKeys() {
+        Map<String, Object> inner = new HashMap<>();
+        inner.put("c", 42);
+        inner.put("k.1", "dotted");
+        Map<String, Object> data = new HashMap<>();
+        data.put("a", Collections.singletonMap("b", Arrays.asList("0", "1", inner)));
+        Map<String, Object> bean = Collections.singletonMap("holder", new Holder("v"));
+
+        assertEquals(42, MappingExpression.compile("a.b[2].c").evaluate(data));
+        assertEquals("dotted", MappingExpression.compile("a['b'][2][\"k.1\"]").evaluate(data));
+        assertNull(MappingExpression.compile("a.missing[0]").evaluate(data));
+        assertEquals("v", MappingExpression.compile("holder.value").evaluate(bean));
+        assertEquals(3, MappingExpression.compile("Str[3]").getRootIndex());
+    }
+
+    @Test
+    void registerMappingConfig_shouldRejectInvalidExpressions() {
+        HardcodedDataProcessor processor = new HardcodedDataProcessor();
+        for (String bad : new String[]{"Str[", "Str[-1]", "a..b", "a.b]", "Str[x]"}) {
+            assertThrows(IllegalArgumentException.class, () -> processor.registerMappingConfig("dtoB",
+                    new HardcodedMappingConfig("dtoB", Collections.singletonMap("A", bad))), bad);
+        }
+        assertFalse(processor.supportsHardcodedData("dtoB"));
+    }
+
+    @Test
+    void processHardcodedData_shouldExtractRegistryColumnsFromDelimitedData() {
+        Map<String, String> mappings = new LinkedHashMap<>();
+        mappings.put("age", "Str[1]");
+        mappings.put("vipLevel", "Str[3]");
+        mappings.put("unused", "Str[2]");
+        HardcodedMappingConfig config = new HardcodedMappingConfig(null, mappings);
+        config.setDelimiter('|');
+        HardcodedDataProcessor processor = new HardcodedDataProcessor();
+        processor.setMetadataRegistryService(new DefaultMetadataRegistryService(Duration.ofMinutes(5)));
+        processor.registerMappingConfig("legacy", config);
+
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("age", "35");
+        expected.put("vipLevel", "");
+        assertEquals(expected, processor.processHardcodedData("u1|35|x||tail|more", "legacy"));
+
+        byte[] bytes = "u1|35|x|4".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        Map<String, Object> fromBytes = processor.processHardcodedData(buffer, "legacy");
+        assertEquals("4", fromBytes.get("vipLevel"));
+        assertEquals(2, fromBytes.size());
+
+        assertEquals(Collections.singletonMap("age", "9"),
+                processor.processHardcodedData("u2|9".getBytes(StandardCharsets.UTF_8), "legacy"));
+    }
+
+    @Test
+    void delimiterIndex_shouldStopAtMaxColumnAndExposeSlices() {
+        DelimiterIndex index = DelimiterIndex.of("a,bc,,d,e", ',', 2);
+
+        assertEquals(3, index.getColumnCount());
+        assertEquals("bc", index.charsAt(1).toString());
+        assertEquals("", index.stringAt(2));
+        assertNull(index.stringAt(3));
+        assertNull(index.bytesAt(0));
+
+        DelimiterIndex bytes = DelimiterIndex.of("x;yz".getBytes(StandardCharsets.UTF_8), ';', 5);
+        assertEquals(2, bytes.getColumnCount());
+        assertEquals(2, bytes.bytesAt(1).remaining());
+    }
+
+    @Test
+    void compile_shouldRejectNonPositionalDelimitedMappings() {
+        HardcodedMappingConfig config = new HardcodedMappingConfig("dtoC", Collections.singletonMap("A", "a.b"));
+        config.setDelimiter(',');
+
+        assertThrows(IllegalArgumentException.class, config::compile);
+    }
+
+    public static class Holder {
+        private final String value;
+
+        Holder(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.acme.core.metadata.json;
+
+import com.acme.core.metadata.collection.MetadataCollectionUnit;
+import com.acme.core.metadata.registry.impl.DefaultMetadataRegistryService;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonBytesConverterTest {
+
+    private final JsonBytesConverter converter =
+            new JsonBytesConverter(new DefaultMetadataRegistryService(Duration.ofMinutes(5)));
+
+    @Test
+    void convert_shouldExtractRegistryKeysAndEnvFields() {
+        byte[] json = ("{\"userId\":\"u1\",\"operateSystem\":\"pccp\",\"prodId\":\"P1\","
+                + "\"payload\":{\"age\":99,\"list\":[1,{\"age\":7},\"}\"]},"
+                + "\"age\":35,\"vipLevel\":\"3\",\"ignored\":[true,false,null,-1.5e3]}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        List<MetadataCollectionUnit> units = converter.convert(json);
+
+        assertEquals(1, units.size());
+        MetadataCollectionUnit unit = units.get(0);
+        assertEquals("u1", unit.getUserId());
+        assertEquals("pccp", unit.getOperateSystem());
+        assertEquals("P1", unit.getProdId());
+        assertEquals(35, unit.getMetadataFields().get("age"));
+        assertEquals("3", unit.getMetadataFields().get("vipLevel"));
+        assertEquals(2, unit.getMetadataFieldCount());
+    }
+
+    @Test
+    void convert_shouldFollowConfiguredPathsOnDirectBuffers() {
+        converter.setIncludeRegistryKeys(false);
+        converter.addPathMapping("riskLevel", "extInfo.credit.riskLevel");
+        converter.addPathMapping("factors", "extInfo.credit.factors");
+        converter.setProdIdPath("meta.prod");
+
+        byte[] bytes = ("{\"meta\":{\"prod\":42},\"age\":35,\"extInfo\":{\"credit\":"
+                + "{\"riskLevel\":\"L\\u004fW\",\"factors\":[\"a\", \"b\"],\"score\":1}}}")
+                .getBytes(StandardCharsets.UTF_8);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+
+        MetadataCollectionUnit unit = converter.convert(direct).get(0);
+
+        assertEquals("42", unit.getProdId());
+        assertEquals("LOW", unit.getMetadataFields().get("riskLevel"));
+        assertEquals("[\"a\", \"b\"]", unit.getMetadataFields().get("factors"));
+        assertFalse(unit.getMetadataFields().containsKey("age"));
+        assertEquals(0, direct.position());
+    }
+
+    @Test
+    void convert_pathMappingShouldOverrideRegistryKeyRegardlessOfOrder() {
+        converter.addPathMapping("age", "profile.age");
+
+        byte[] mappedLast = "{\"age\":35,\"profile\":{\"age\":40}}".getBytes(StandardCharsets.UTF_8);
+        byte[] mappedFirst = "{\"profile\":{\"age\":40},\"age\":35}".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(40, converter.convert(mappedLast).get(0).getMetadataFields().get("age"));
+        assertEquals(40, converter.convert(mappedFirst).get(0).getMetadataFields().get("age"));
+    }
+
+    @Test
+    void convert_shouldRejectMalformedInput() {
+        assertThrows(IllegalArgumentException.class,
+                () -> converter.convert("{\"age\":".getBytes(StandardCharsets.UTF_8)));
+        assertThrows(IllegalArgumentException.class,
+                () -> converter.convert("[1,2]".getBytes(StandardCharsets.UTF_8)));
+    }
+}
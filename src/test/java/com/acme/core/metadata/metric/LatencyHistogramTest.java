@@ -0,0 +1,44 @@
+package com.acme.core.metadata.metric;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void bucketBounds_shouldCoverEveryValueWithinRelativeError() {
+        long[] samples = {0, 1, 3, 4, 7, 8, 9, 15, 16, 1000, 123_456_789L, Long.MAX_VALUE};
+        for (long value : samples) {
+            int index = LatencyHistogram.bucketIndex(value);
+            long upper = LatencyHistogram.bucketUpperBound(index);
+            assertTrue(upper >= value, "upper bound for " + value);
+            assertTrue(upper - value <= Math.max(1, value / 4), "precision for " + value);
+            if (index > 0) {
+                assertTrue(LatencyHistogram.bucketUpperBound(index - 1) < value, "lower bound for " + value);
+            }
+        }
+    }
+
+    @Test
+    void snapshot_shouldReportPercentilesAndIntervals() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1000L);
+        }
+        LatencyHistogram.Snapshot first = histogram.snapshot();
+
+        assertEquals(100, first.getCount());
+        assertEquals(50_500, first.getMean(), 0.001);
+        assertEquals(100_000, first.getMax());
+        long p50 = first.getPercentile(0.5);
+        assertTrue(p50 >= 50_000 && p50 <= 50_000 * 5 / 4, "p50=" + p50);
+        assertEquals(100_000, first.getPercentile(1.0));
+
+        histogram.record(5);
+        histogram.record(-1);
+        LatencyHistogram.Snapshot interval = histogram.snapshot().since(first);
+        assertEquals(2, interval.getCount());
+        assertEquals(5, interval.getPercentile(1.0));
+    }
+}
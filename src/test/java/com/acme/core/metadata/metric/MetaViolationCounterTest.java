@@ -0,0 +1,95 @@
+package com.acme.core.metadata.metric;
+
+import com.acme.core.metadata.MetadataGuard;
+import com.acme.core.metadata.rule.ValidationContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetaViolationCounterTest {
+
+    @BeforeEach
+    void setUp() {
+        MetaViolationCounter.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MetaViolationCounter.setMaxSeries(1000);
+        MetaViolationCounter.setProductDimension(false);
+        MetaViolationCounter.setAlert(0, null);
+        MetaViolationCounter.reset();
+    }
+
+    @Test
+    void violations_shouldBeCountedPerRuleKeyAndProduct() throws Exception {
+        MetaViolationCounter.setProductDimension(true);
+        ValidationContext ctx = new ValidationContext(MetadataGuard.Mode.MONITOR);
+        ctx.setRule("ValueRangeRule");
+        ctx.setKey("age");
+        ctx.setProdId("P01");
+        ctx.violate("out of range");
+        ctx.violate("out of range");
+        ctx.setProdId("P02");
+        ctx.violate("out of range");
+
+        List<MetaViolationCounter.ViolationStat> stats = MetaViolationCounter.snapshot();
+        assertEquals(2, stats.size());
+        MetaViolationCounter.ViolationStat p01 = find(stats, "P01");
+        assertEquals("ValueRangeRule", p01.getRule());
+        assertEquals("age", p01.getKey());
+        assertEquals(2, p01.getTotal());
+        assertEquals(1, find(stats, "P02").getTotal());
+    }
+
+    @Test
+    void seriesBeyondLimit_shouldFallIntoOtherBucket() {
+        MetaViolationCounter.setMaxSeries(2);
+        MetaViolationCounter.violation("R", "a", null);
+        MetaViolationCounter.violation("R", "b", null);
+        MetaViolationCounter.violation("R", "c", null);
+        MetaViolationCounter.violation("R", "d", null);
+        MetaViolationCounter.violation("R", "a", null);
+
+        List<MetaViolationCounter.ViolationStat> stats = MetaViolationCounter.snapshot();
+        assertEquals(3, stats.size());
+        MetaViolationCounter.ViolationStat other = stats.get(2);
+        assertEquals(MetaViolationCounter.OTHER, other.getKey());
+        assertEquals(2, other.getTotal());
+    }
+
+    @Test
+    void windowRoll_shouldComputeWindowCountsAndRaiseAlerts() {
+        List<MetaViolationCounter.ViolationStat> alerts = new ArrayList<>();
+        MetaViolationCounter.setAlert(3, alerts::add);
+        for (int i = 0; i < 5; i++) {
+            MetaViolationCounter.violation("R", "hot", null);
+        }
+        MetaViolationCounter.violation("R", "cold", null);
+
+        MetaViolationCounter.flush();
+        assertEquals(1, alerts.size());
+        assertEquals("hot", alerts.get(0).getKey());
+        assertEquals(5, alerts.get(0).getWindowCount());
+        assertTrue(alerts.get(0).getWindowRate() > 0);
+        assertEquals("hot", MetaViolationCounter.snapshot().get(0).getKey());
+
+        // 下一个窗口只统计新增次数
+        MetaViolationCounter.violation("R", "hot", null);
+        MetaViolationCounter.flush();
+        assertEquals(1, alerts.size());
+        MetaViolationCounter.ViolationStat hot = MetaViolationCounter.snapshot().get(0);
+        assertEquals(1, hot.getWindowCount());
+        assertEquals(6, hot.getTotal());
+    }
+
+    private static MetaViolationCounter.ViolationStat find(List<MetaViolationCounter.ViolationStat> stats, String prodId) {
+        return stats.stream().filter(s -> prodId.equals(s.getProdId())).findFirst()
+                .orElseThrow(() -> new AssertionError("missing " + prodId));
+    }
+}
@@ -0,0 +1,93 @@
+package com.acme.core.metadata.spill;
+
+import com.acme.core.metadata.MetadataGuard;
+import com.acme.core.metadata.collection.MetadataCollectionUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpillStoreTest {
+
+    @TempDir
+    File directory;
+
+    @Test
+    void spilledUnits_shouldRoundTripWithTypedValues() throws Exception {
+        MetadataCollectionUnit unit = new MetadataCollectionUnit("u1", "APP", "P01");
+        unit.addMetadataField("age", 30);
+        unit.addMetadataField("amount", new BigDecimal("12.50"));
+        unit.addMetadataField("vip", true);
+        unit.addMetadataField("score", 9_000_000_000L);
+        Map<String, Object> ext = new LinkedHashMap<>();
+        ext.put("factors", Arrays.asList("income", 2));
+        unit.addMetadataField("ext", ext);
+
+        SpillStore store = new SpillStore(directory, 4096, 4);
+        assertTrue(store.append(Collections.singletonList(unit), MetadataGuard.Mode.MONITOR));
+        SpillStore.SpilledBatch batch = store.poll();
+        assertNotNull(batch);
+        assertEquals(MetadataGuard.Mode.MONITOR, batch.getMode());
+        assertEquals(Collections.singletonList(unit), batch.getUnits());
+        assertNull(store.poll());
+        store.close();
+    }
+
+    @Test
+    void uncompletedBatches_shouldBeReplayedAfterReopen() throws Exception {
+        SpillStore store = new SpillStore(directory, 4096, 4);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(store.append(units(i), MetadataGuard.Mode.MONITOR));
+        }
+        store.complete(store.poll());
+        store.poll();  // 已读出但未执行完
+        store.close();
+
+        SpillStore reopened = new SpillStore(directory, 4096, 4);
+        assertEquals(2, reopened.getPendingCount());
+        assertEquals("1", reopened.poll().getUnits().get(0).getUserId());
+        assertEquals("2", reopened.poll().getUnits().get(0).getUserId());
+        assertNull(reopened.poll());
+        reopened.close();
+    }
+
+    @Test
+    void segments_shouldRollAndBeDeletedOnceDrained() throws Exception {
+        SpillStore store = new SpillStore(directory, 256, 2);
+        int appended = 0;
+        while (store.append(units(appended), MetadataGuard.Mode.MONITOR)) {
+            appended++;
+        }
+        // 两个分段写满后拒绝写入
+        assertEquals(2, store.getSegmentCount());
+        assertTrue(appended > 2);
+
+        SpillStore.SpilledBatch batch;
+        int read = 0;
+        while ((batch = store.poll()) != null) {
+            assertEquals(String.valueOf(read++), batch.getUnits().get(0).getUserId());
+            store.complete(batch);
+        }
+        assertEquals(appended, read);
+        // 写满的分段消费完即删除
+        assertEquals(0, store.getSegmentCount());
+        assertEquals(0, directory.listFiles().length);
+        assertTrue(store.append(units(0), MetadataGuard.Mode.MONITOR));
+        assertEquals(1, store.getSegmentCount());
+        store.close();
+    }
+
+    private static List<MetadataCollectionUnit> units(int index) {
+        MetadataCollectionUnit unit = new MetadataCollectionUnit(String.valueOf(index), "APP", "P01");
+        unit.addMetadataField("age", 30 + index);
+        return Collections.singletonList(unit);
+    }
+}
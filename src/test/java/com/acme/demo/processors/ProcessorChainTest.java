@@ -1,14 +1,22 @@
 package com.acme.demo.processors;
 
+import com.acme.core.metadata.AbstractUnitProcessor;
 import com.acme.core.metadata.UnitProcessor;
 import com.acme.core.metadata.UnitProcessorChain;
 import com.acme.core.metadata.collection.MetadataCollectionUnit;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiPredicate;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -97,4 +105,263 @@ public class ProcessorChainTest {
         assertEquals(50, processors.get(0).getOrder());
         assertEquals(100, processors.get(1).getOrder());
     }
-}
\ No newline at end of file
+    
+    @Test
+    void testSnapshotReplaceAndRemove() {
+        NestedFieldProcessor nested = new NestedFieldProcessor();
+        CreditInfoProcessor credit = new CreditInfoProcessor();
+        
+        // 原子替换：无论传入顺序如何，快照都按优先级排序
+        processorChain.replaceProcessors(java.util.Arrays.asList(nested, credit));
+        List<UnitProcessor> processors = processorChain.getAllProcessors();
+        assertEquals(2, processorChain.getProcessorCount());
+        assertSame(credit, processors.get(0));
+        assertSame(nested, processors.get(1));
+        
+        assertTrue(processorChain.removeProcessor(credit));
+        assertFalse(processorChain.removeProcessor(credit));
+        assertEquals(1, processorChain.getProcessorCount());
+        assertSame(nested, processorChain.getAllProcessors().get(0));
+    }
+    
+    @Test
+    void testDependencyStages() {
+        // Nested读取Credit写入的键，必须在后续阶段执行
+        List<List<UnitProcessor>> stages = processorChain.getExecutionStages();
+        assertEquals(2, stages.size());
+        assertTrue(stages.get(0).get(0) instanceof CreditInfoProcessor);
+        assertTrue(stages.get(1).get(0) instanceof NestedFieldProcessor);
+        
+        // 读写互不相交的处理器进入同一阶段
+        processorChain.registerProcessor(new SuffixProcessor("left", 60));
+        processorChain.registerProcessor(new SuffixProcessor("right", 70));
+        stages = processorChain.getExecutionStages();
+        assertEquals(2, stages.size());
+        assertEquals(3, stages.get(0).size());
+    }
+    
+    @Test
+    void testParallelStageMerge() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            UnitProcessorChain chain = new UnitProcessorChain();
+            chain.registerProcessor(new SuffixProcessor("left", 10));
+            chain.registerProcessor(new SuffixProcessor("right", 20));
+            chain.setParallelExecutor(executor);
+            chain.setParallelFieldThreshold(0);
+            
+            MetadataCollectionUnit unit = new MetadataCollectionUnit("u1", "sys", "P1");
+            unit.addMetadataField("left", "a");
+            unit.addMetadataField("right", "b");
+            
+            MetadataCollectionUnit result = chain.process(unit);
+            Map<String, Object> fields = result.getMetadataFields();
+            assertEquals("a!", fields.get("out.left.value"));
+            assertEquals("b!", fields.get("out.right.value"));
+            assertEquals("u1", result.getUserId());
+            assertEquals(4, fields.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    @Test
+    void testParallelStagePropagatesRemovals() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            UnitProcessorChain parallel = new UnitProcessorChain();
+            UnitProcessorChain sequential = new UnitProcessorChain();
+            for (UnitProcessorChain chain : java.util.Arrays.asList(parallel, sequential)) {
+                chain.registerProcessor(new SuffixProcessor("left", 10));
+                chain.registerProcessor(new RemovingProcessor("right", 20));
+            }
+            parallel.setParallelExecutor(executor);
+            parallel.setParallelFieldThreshold(0);
+            assertEquals(1, parallel.getExecutionStages().size());
+            
+            MetadataCollectionUnit unit = new MetadataCollectionUnit("u1", "sys", "P1");
+            unit.addMetadataField("left", "a");
+            unit.addMetadataField("right", "b");
+            
+            Map<String, Object> expected = sequential.process(unit).getMetadataFields();
+            Map<String, Object> fields = parallel.process(unit).getMetadataFields();
+            assertFalse(fields.containsKey("right"));
+            assertEquals(expected, fields);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    @Test
+    void testParallelProcessAllPreservesOrder() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            processorChain.setBatchPool(pool);
+            processorChain.setParallelBatchThreshold(100);
+            
+            List<MetadataCollectionUnit> units = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                MetadataCollectionUnit unit = new MetadataCollectionUnit("user" + i, "sys", "P1");
+                unit.addMetadataField("creditExtInfo", "vipLevel=" + (i % 9) + ",riskLevel=low");
+                units.add(unit);
+            }
+            
+            List<MetadataCollectionUnit> results = processorChain.processAll(units);
+            assertEquals(units.size(), results.size());
+            for (int i = 0; i < results.size(); i++) {
+                MetadataCollectionUnit result = results.get(i);
+                assertEquals("user" + i, result.getUserId());
+                assertEquals(i % 9, result.getMetadataFields().get("extInfo.creditExtInfo.vipLevel"));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+    
+    @Test
+    void testMemoizedDecoding() {
+        CreditInfoProcessor credit = new CreditInfoProcessor();
+        UnitProcessorChain chain = new UnitProcessorChain();
+        chain.registerProcessor(credit);
+        
+        for (int i = 0; i < 3; i++) {
+            MetadataCollectionUnit unit = new MetadataCollectionUnit("user" + i, "sys", "P1");
+            unit.addMetadataField("creditExtInfo", "vipLevel=5,creditScore=750");
+            MetadataCollectionUnit result = chain.process(unit);
+            assertEquals(750, result.getMetadataFields().get("extInfo.creditExtInfo.creditScore"));
+            assertEquals("user" + i, result.getUserId());
+        }
+        
+        assertEquals(1, credit.getMemoStats().getMisses());
+        assertEquals(2, credit.getMemoStats().getHits());
+
+        // 缓存键包含全部目标字段：creditExtInfo相同但其他目标字段不同的单元不能复用结果
+        for (String riskLevel : new String[]{"low", "high"}) {
+            MetadataCollectionUnit unit = new MetadataCollectionUnit("user9", "sys", "P1");
+            unit.addMetadataField("creditExtInfo", "vipLevel=5,creditScore=750");
+            unit.addMetadataField("extInfo.legacy", "riskLevel=" + riskLevel);
+            MetadataCollectionUnit result = chain.process(unit);
+            assertEquals(riskLevel, result.getMetadataFields().get("extInfo.creditExtInfo.riskLevel"));
+        }
+        assertEquals(3, credit.getMemoStats().getMisses());
+        assertEquals(2, credit.getMemoStats().getHits());
+    }
+    
+    @Test
+    void shippedProcessorsDeclareEveryKeyTheyRead() {
+        CreditInfoProcessor credit = new CreditInfoProcessor();
+        NestedFieldProcessor nested = new NestedFieldProcessor();
+        assertTargetsDeclared(credit, credit::isTargetField);
+        assertTargetsDeclared(nested, nested::isTargetField);
+        
+        // 读取范围外的creditExtInfo字段不被处理
+        MetadataCollectionUnit unit = new MetadataCollectionUnit("u1", "sys", "P1");
+        unit.addMetadataField("legacy.creditExtInfo", "vipLevel=1");
+        assertSame(unit, processorChain.process(unit));
+    }
+    
+    /**
+     * 目标字段判断为true的键必须匹配处理器声明的读取键模式
+     */
+    private static void assertTargetsDeclared(UnitProcessor processor, BiPredicate<String, Object> isTarget) {
+        String[] keys = {"creditExtInfo", "legacy.creditExtInfo", "creditExtInfoV2", "extInfo.legacy",
+                "extInfo.creditExtInfo.riskLevel", "extInfo.creditExtInfo.vipLevel", "user.extInfo", "other"};
+        Object[] values = {"vipLevel=5", "{riskLevel=low}", "low", 5};
+        for (String key : keys) {
+            boolean declared = processor.getConsumedKeyPatterns().stream()
+                    .anyMatch(pattern -> pattern.endsWith(".*")
+                            ? key.startsWith(pattern.substring(0, pattern.length() - 1))
+                            : pattern.equals(key));
+            for (Object value : values) {
+                assertTrue(declared || !isTarget.test(key, value),
+                        processor.getDescription() + " reads undeclared key " + key + "=" + value);
+            }
+        }
+    }
+    
+    /**
+     * 删除单个键的测试处理器，删除视为对该键的写入
+     */
+    private static class RemovingProcessor implements UnitProcessor {
+        private final String key;
+        private final int order;
+        
+        RemovingProcessor(String key, int order) {
+            this.key = key;
+            this.order = order;
+        }
+        
+        @Override
+        public boolean supports(MetadataCollectionUnit unit) {
+            return unit.getMetadataField(key) != null;
+        }
+        
+        @Override
+        public MetadataCollectionUnit process(MetadataCollectionUnit unit) {
+            Map<String, Object> fields = unit.getMetadataFields();
+            fields.remove(key);
+            MetadataCollectionUnit result = new MetadataCollectionUnit();
+            result.copyEnvFrom(unit);
+            result.setMetadataFields(fields);
+            return result;
+        }
+        
+        @Override
+        public Set<String> getConsumedKeyPatterns() {
+            return Collections.singleton(key);
+        }
+        
+        @Override
+        public Set<String> getProducedKeyPatterns() {
+            return Collections.singleton(key);
+        }
+        
+        @Override
+        public String getFieldPathPrefix() {
+            return "";
+        }
+        
+        @Override
+        public int getOrder() {
+            return order;
+        }
+    }
+    
+    /**
+     * 读取单个键、写入独立前缀的测试处理器
+     */
+    private static class SuffixProcessor extends AbstractUnitProcessor {
+        private final String key;
+        private final int order;
+        
+        SuffixProcessor(String key, int order) {
+            this.key = key;
+            this.order = order;
+        }
+        
+        @Override
+        protected Map<String, Object> processSpecialFields(MetadataCollectionUnit unit) {
+            return Collections.singletonMap("value", unit.getMetadataFields().get(key) + "!");
+        }
+        
+        @Override
+        protected boolean isTargetField(String fieldKey, Object fieldValue) {
+            return key.equals(fieldKey);
+        }
+        
+        @Override
+        public Set<String> getConsumedKeyPatterns() {
+            return Collections.singleton(key);
+        }
+        
+        @Override
+        public String getFieldPathPrefix() {
+            return "out." + key;
+        }
+        
+        @Override
+        public int getOrder() {
+            return order;
+        }
+    }
+}